@@ -0,0 +1,77 @@
+package com.ats.api.controller;
+
+import com.ats.api.dto.request.BulkUserRegistrationRequest;
+import com.ats.api.dto.response.BulkUserRegistrationResponse;
+import com.ats.api.dto.response.UserResponse;
+import com.ats.security.TokenRevocationService;
+import com.ats.service.UserProvisioningService;
+import com.ats.service.UserService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Admin Controller - Administrative operations for RECRUITER users.
+ * Endpoints:
+ * - POST /admin/users/bulk: Register many users at once (e.g. a whole cohort)
+ * - POST /admin/users/{id}/revoke-tokens: Revoke every JWT token of a user
+ * Access to /admin/** is restricted to RECRUITER in SecurityConfiguration.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/admin")
+@RequiredArgsConstructor
+@Tag(name = "Administration", description = "Administrative endpoints for recruiters")
+public class AdminController {
+        private final UserProvisioningService userProvisioningService;
+        private final UserService userService;
+        private final TokenRevocationService tokenRevocationService;
+
+        /**
+         * Registers many users in batched inserts.
+         * Request Body:
+         * {
+         * "users": [ { "username": "...", "email": "...", "password": "...", ... }, ... ]
+         * }
+         * Response (200 OK):
+         * {
+         * "created": 2,
+         * "failed": 1,
+         * "results": [
+         * { "index": 0, "username": "jane", "status": "CREATED", "id": 12 },
+         * { "index": 1, "username": "john", "status": "FAILED", "error": "Email already exists: ..." },
+         * ...
+         * ]
+         * }
+         *
+         * @param request users to register (at most 10000)
+         * @return 200 OK with one result per row, in request order
+         */
+        @PostMapping("/users/bulk")
+        @Operation(summary = "Bulk register users", description = "Register many users at once with per-row results")
+        public ResponseEntity<BulkUserRegistrationResponse> registerUsers(
+                        @Valid @RequestBody BulkUserRegistrationRequest request) {
+                log.info("Bulk registration of {} users", request.getUsers().size());
+                return ResponseEntity.ok(userProvisioningService.registerAll(request.getUsers()));
+        }
+
+        /**
+         * Revokes every token issued to a user so far, e.g. for a compromised account.
+         *
+         * @param id user id
+         * @return 204 No Content
+         * @throws IllegalArgumentException if the user does not exist
+         */
+        @PostMapping("/users/{id}/revoke-tokens")
+        @Operation(summary = "Revoke user tokens", description = "Revoke all JWT tokens of a user")
+        public ResponseEntity<Void> revokeTokens(@PathVariable Long id) {
+                UserResponse user = userService.findById(id)
+                                .orElseThrow(() -> new IllegalArgumentException("User not found: " + id));
+                tokenRevocationService.revokeAll(user.getUsername());
+                return ResponseEntity.noContent().build();
+        }
+}
@@ -3,13 +3,22 @@ package com.ats.api.controller;
 import com.ats.api.dto.request.ApplicationRequest;
 import com.ats.api.dto.request.ApplicationStatusUpdateRequest;
 import com.ats.api.dto.response.ApplicationDetailResponse;
+import com.ats.api.dto.response.ApplicationImportResult;
 import com.ats.api.dto.response.ApplicationResponse;
+import com.ats.api.dto.response.CursorPage;
 import com.ats.domain.entity.ApplicationStatus;
-import com.ats.domain.entity.User;
+import com.ats.exception.ResourceNotFoundException;
+import com.ats.security.AuthenticatedUser;
+import com.ats.service.ApplicationExportService;
+import com.ats.service.ApplicationField;
+import com.ats.service.ApplicationFileFormat;
+import com.ats.service.ApplicationImportService;
 import com.ats.service.ApplicationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,19 +26,33 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 
 /**
  * Application Controller - Manages job applications.
  * Endpoints:
  * - POST /applications: Create a new application (CANDIDATE only)
+ * - POST /applications/import: Import applications from CSV or NDJSON (CANDIDATE only)
  * - GET /applications/{id}: Get application details (CANDIDATE or RECRUITER)
- * - GET /applications: List user applications (CANDIDATE or RECRUITER)
- * - GET /applications/search: Search applications (CANDIDATE or RECRUITER)
+ * - GET /applications: List user applications, optionally only some fields (CANDIDATE or RECRUITER)
+ * - GET /applications/cursor: List user applications by cursor (CANDIDATE or RECRUITER)
+ * - GET /applications/search: Search applications by status, company or job title (CANDIDATE or RECRUITER)
+ * - GET /applications/search/text: Full-text search of applications and their notes (CANDIDATE or RECRUITER)
+ * - GET /applications/search/cursor: Search applications by cursor (CANDIDATE or RECRUITER)
+ * - GET /applications/export: Export applications as CSV or NDJSON (CANDIDATE or RECRUITER)
  * - PUT /applications/{id}: Update application details (CANDIDATE only)
  * - PATCH /applications/{id}/status: Update application status (CANDIDATE only)
  * - DELETE /applications/{id}: Delete application (CANDIDATE only)
@@ -41,7 +64,13 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 @Tag(name = "Applications", description = "Job application management endpoints")
 public class ApplicationController {
+        private static final String TEXT_CSV = "text/csv";
+        private static final String APPLICATION_NDJSON = "application/x-ndjson";
+
         private final ApplicationService applicationService;
+        private final ApplicationImportService applicationImportService;
+        private final ApplicationExportService applicationExportService;
+        private final ObjectMapper objectMapper;
 
         /**
          * Create a new job application.
@@ -62,54 +91,228 @@ public class ApplicationController {
         @PreAuthorize("hasRole('CANDIDATE')")
         @Operation(summary = "Create a new application", description = "Candidate creates a new job application")
         public ResponseEntity<ApplicationResponse> createApplication(
-                        @AuthenticationPrincipal User currentUser,
+                        @AuthenticationPrincipal AuthenticatedUser currentUser,
                         @Valid @RequestBody ApplicationRequest request) {
-                ApplicationResponse response = applicationService.createApplication(currentUser, request);
+                ApplicationResponse response = applicationService.createApplication(currentUser.id(), request);
                 return ResponseEntity.status(HttpStatus.CREATED).body(response);
         }
 
+        /**
+         * Import applications in bulk, e.g. migrated from a spreadsheet.
+         * Request Body (text/csv, header row with ApplicationRequest property names):
+         * companyName,jobTitle,dateApplied,jobUrl,notes
+         * Tech Corp,Software Engineer,2026-01-01,,Applied via company website
+         * or application/x-ndjson, one ApplicationRequest object per line.
+         * 
+         * The body is read as a stream and the response is NDJSON, one
+         * ApplicationImportResult per row followed by a COMPLETED line with the totals.
+         * Rows fail individually; the status is 200 even if every row failed.
+         * 
+         * @param currentUser authenticated user (CANDIDATE)
+         * @return 200 OK with streamed ApplicationImportResult lines
+         */
+        @PostMapping(value = "/import", consumes = { TEXT_CSV, APPLICATION_NDJSON }, produces = APPLICATION_NDJSON)
+        @PreAuthorize("hasRole('CANDIDATE')")
+        @Operation(summary = "Import applications", description = "Create many applications from a CSV or NDJSON upload")
+        public ResponseEntity<StreamingResponseBody> importApplications(
+                        @AuthenticationPrincipal AuthenticatedUser currentUser,
+                        @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                        HttpServletRequest request) throws IOException {
+                ApplicationFileFormat format = ApplicationFileFormat.fromMediaType(contentType);
+                Long ownerId = currentUser.id();
+                InputStream body = request.getInputStream();
+
+                StreamingResponseBody stream = output -> applicationImportService.importApplications(
+                                ownerId,
+                                body,
+                                format,
+                                result -> writeLine(output, result));
+                return ResponseEntity.ok()
+                                .contentType(ApplicationFileFormat.NDJSON.getMediaType())
+                                .body(stream);
+        }
+
+        /**
+         * Get an application with its status history and notes.
+         * 
+         * @param id          application id
+         * @param currentUser authenticated user
+         * @return 200 OK with ApplicationDetailResponse
+         * @throws ResourceNotFoundException if the application does not exist or is not the user's
+         */
         @GetMapping("/{id}")
         @Operation(summary = "Get application details", description = "Retrieve a specific application with full details")
         public ResponseEntity<ApplicationDetailResponse> getApplicationDetails(
                         @PathVariable Long id,
-                        @AuthenticationPrincipal User currentUser) {
-                ApplicationDetailResponse response = applicationService.findById(id)
-                                .orElseThrow(() -> new IllegalArgumentException("Application not found: " + id));
-
-                applicationService.validateOwnership(id, currentUser);
+                        @AuthenticationPrincipal AuthenticatedUser currentUser) {
+                ApplicationDetailResponse response = applicationService.findDetail(id, currentUser.id());
                 return ResponseEntity.ok(response);
         }
 
+        /**
+         * List the user's applications, one offset page at a time.
+         * With fields (e.g. fields=id,companyName,jobTitle,status) only those
+         * properties are queried and returned; the others are omitted.
+         * 
+         * @param currentUser authenticated user
+         * @param fields      comma-separated ApplicationResponse properties, omitted for all
+         * @return 200 OK with Page of ApplicationResponse
+         * @throws IllegalArgumentException if fields names an unknown property
+         */
         @GetMapping
         @Operation(summary = "List user applications", description = "Get paginated list of user's applications")
         public ResponseEntity<Page<ApplicationResponse>> listApplications(
-                        @AuthenticationPrincipal User currentUser,
+                        @AuthenticationPrincipal AuthenticatedUser currentUser,
                         @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
                         @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size,
                         @Parameter(description = "Sort field") @RequestParam(defaultValue = "dateApplied") String sortBy,
-                        @Parameter(description = "Sort direction") @RequestParam(defaultValue = "DESC") Sort.Direction direction) {
+                        @Parameter(description = "Sort direction") @RequestParam(defaultValue = "DESC") Sort.Direction direction,
+                        @Parameter(description = "Fields to return, e.g. id,companyName,jobTitle,status") @RequestParam(required = false) String fields) {
                 Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
-                Page<ApplicationResponse> response = applicationService.findByOwner(currentUser, pageable);
+                Page<ApplicationResponse> response = fields == null
+                                ? applicationService.findByOwner(currentUser.id(), pageable)
+                                : applicationService.findByOwner(currentUser.id(), ApplicationField.parse(fields), pageable);
                 return ResponseEntity.ok(response);
         }
 
+        /**
+         * Search the user's applications by status, company name and/or job title.
+         * Company name and job title match case-insensitive substrings.
+         * Takes the same fields parameter as GET /applications.
+         */
         @GetMapping("/search")
-        @Operation(summary = "Search applications", description = "Search applications by status and/or company name")
+        @Operation(summary = "Search applications", description = "Search applications by status, company name and/or job title")
         public ResponseEntity<Page<ApplicationResponse>> searchApplications(
-                        @AuthenticationPrincipal User currentUser,
+                        @AuthenticationPrincipal AuthenticatedUser currentUser,
                         @Parameter(description = "Application status filter") @RequestParam(required = false) ApplicationStatus status,
                         @Parameter(description = "Company name filter") @RequestParam(required = false) String companyName,
+                        @Parameter(description = "Job title filter") @RequestParam(required = false) String jobTitle,
                         @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
-                        @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size) {
+                        @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size,
+                        @Parameter(description = "Fields to return, e.g. id,companyName,jobTitle,status") @RequestParam(required = false) String fields) {
                 Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "dateApplied"));
-                Page<ApplicationResponse> response = applicationService.searchApplications(
-                                currentUser,
+                Page<ApplicationResponse> response = fields == null
+                                ? applicationService.searchApplications(
+                                                currentUser.id(),
+                                                status,
+                                                companyName,
+                                                jobTitle,
+                                                pageable)
+                                : applicationService.searchApplications(
+                                                currentUser.id(),
+                                                status,
+                                                companyName,
+                                                jobTitle,
+                                                ApplicationField.parse(fields),
+                                                pageable);
+                return ResponseEntity.ok(response);
+        }
+
+        /**
+         * Full-text search of the user's applications, including the content of
+         * their notes, best match first. The query takes web search syntax:
+         * kubernetes "platform team" -contract, or words joined with OR.
+         * Words are matched by stem, so "interviewing" also finds "interview".
+         *
+         * @param currentUser authenticated user
+         * @param q           search terms
+         * @return 200 OK with Page of ApplicationResponse, ranked by relevance
+         * @throws IllegalArgumentException if q is blank
+         */
+        @GetMapping("/search/text")
+        @Operation(summary = "Full-text search applications", description = "Ranked search over job title, company, notes and note content")
+        public ResponseEntity<Page<ApplicationResponse>> searchApplicationsText(
+                        @AuthenticationPrincipal AuthenticatedUser currentUser,
+                        @Parameter(description = "Search terms") @RequestParam String q,
+                        @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
+                        @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size) {
+                Page<ApplicationResponse> response = applicationService.searchText(
+                                currentUser.id(),
+                                q,
+                                PageRequest.of(page, size));
+                return ResponseEntity.ok(response);
+        }
+
+        /**
+         * Cursor (keyset) paginated variant of GET /applications, newest first.
+         * Costs the same on every page and skips the total count; pass the
+         * returned nextCursor to get the following page.
+         * 
+         * @param currentUser authenticated user
+         * @param cursor      nextCursor of the previous page, omitted for the first page
+         * @param size        page size (1-100)
+         * @return 200 OK with CursorPage of ApplicationResponse
+         * @throws IllegalArgumentException if the cursor or size is invalid
+         */
+        @GetMapping("/cursor")
+        @Operation(summary = "List user applications by cursor", description = "Get keyset paginated list of user's applications, newest first")
+        public ResponseEntity<CursorPage<ApplicationResponse>> listApplicationsByCursor(
+                        @AuthenticationPrincipal AuthenticatedUser currentUser,
+                        @Parameter(description = "Cursor from the previous page") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size) {
+                CursorPage<ApplicationResponse> response = applicationService.findByOwner(currentUser.id(), cursor, size);
+                return ResponseEntity.ok(response);
+        }
+
+        /**
+         * Cursor (keyset) paginated variant of GET /applications/search.
+         */
+        @GetMapping("/search/cursor")
+        @Operation(summary = "Search applications by cursor", description = "Keyset paginated search by status, company name and/or job title, newest first")
+        public ResponseEntity<CursorPage<ApplicationResponse>> searchApplicationsByCursor(
+                        @AuthenticationPrincipal AuthenticatedUser currentUser,
+                        @Parameter(description = "Application status filter") @RequestParam(required = false) ApplicationStatus status,
+                        @Parameter(description = "Company name filter") @RequestParam(required = false) String companyName,
+                        @Parameter(description = "Job title filter") @RequestParam(required = false) String jobTitle,
+                        @Parameter(description = "Cursor from the previous page") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size) {
+                CursorPage<ApplicationResponse> response = applicationService.searchApplications(
+                                currentUser.id(),
                                 status,
                                 companyName,
-                                pageable);
+                                jobTitle,
+                                cursor,
+                                size);
                 return ResponseEntity.ok(response);
         }
 
+        /**
+         * Export all matching applications in one response, instead of paging
+         * through GET /applications. Takes the same filters as search; rows are
+         * streamed newest first as ApplicationResponse CSV or NDJSON.
+         * 
+         * @param currentUser authenticated user
+         * @param format      csv (default) or ndjson
+         * @return 200 OK with the streamed file
+         * @throws IllegalArgumentException if the format is not supported
+         */
+        @GetMapping(value = "/export", produces = { TEXT_CSV, APPLICATION_NDJSON })
+        @Operation(summary = "Export applications", description = "Download all matching applications as CSV or NDJSON")
+        public ResponseEntity<StreamingResponseBody> exportApplications(
+                        @AuthenticationPrincipal AuthenticatedUser currentUser,
+                        @Parameter(description = "File format: csv or ndjson") @RequestParam(defaultValue = "csv") String format,
+                        @Parameter(description = "Application status filter") @RequestParam(required = false) ApplicationStatus status,
+                        @Parameter(description = "Company name filter") @RequestParam(required = false) String companyName,
+                        @Parameter(description = "Job title filter") @RequestParam(required = false) String jobTitle) {
+                ApplicationFileFormat fileFormat = ApplicationFileFormat.fromParameter(format);
+                Long ownerId = currentUser.id();
+
+                StreamingResponseBody stream = output -> applicationExportService.exportApplications(
+                                ownerId,
+                                status,
+                                companyName,
+                                jobTitle,
+                                fileFormat,
+                                output);
+                return ResponseEntity.ok()
+                                .contentType(fileFormat.getMediaType())
+                                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                                                .filename("applications." + fileFormat.getExtension())
+                                                .build()
+                                                .toString())
+                                .body(stream);
+        }
+
         /**
          * Update application details
          * Request Body:
@@ -124,17 +327,16 @@ public class ApplicationController {
          * @param currentUser authenticated user (CANDIDATE)
          * @param request     updated application details
          * @return 200 OK with updated ApplicationResponse
-         * @throws IllegalArgumentException if application not found or validation fails
+         * @throws ResourceNotFoundException if the application does not exist or is not the user's
          */
         @PutMapping("/{id}")
         @PreAuthorize("hasRole('CANDIDATE')")
         @Operation(summary = "Update application details", description = "Update application details (company, title, etc.)")
         public ResponseEntity<ApplicationResponse> updateApplication(
                         @PathVariable Long id,
-                        @AuthenticationPrincipal User currentUser,
+                        @AuthenticationPrincipal AuthenticatedUser currentUser,
                         @Valid @RequestBody ApplicationRequest request) {
-                applicationService.validateOwnership(id, currentUser);
-                ApplicationResponse response = applicationService.updateApplication(id, request);
+                ApplicationResponse response = applicationService.updateApplication(id, currentUser.id(), request);
                 return ResponseEntity.ok(response);
         }
 
@@ -150,10 +352,9 @@ public class ApplicationController {
         @Operation(summary = "Update application status", description = "Transition application to next status with audit trail")
         public ResponseEntity<ApplicationResponse> updateApplicationStatus(
                         @PathVariable Long id,
-                        @AuthenticationPrincipal User currentUser,
+                        @AuthenticationPrincipal AuthenticatedUser currentUser,
                         @Valid @RequestBody ApplicationStatusUpdateRequest request) {
-                applicationService.validateOwnership(id, currentUser);
-                ApplicationResponse response = applicationService.updateApplicationStatus(id, request, currentUser);
+                ApplicationResponse response = applicationService.updateApplicationStatus(id, request, currentUser.id());
                 return ResponseEntity.ok(response);
         }
 
@@ -162,9 +363,17 @@ public class ApplicationController {
         @Operation(summary = "Delete application", description = "Remove an application")
         public ResponseEntity<Void> deleteApplication(
                         @PathVariable Long id,
-                        @AuthenticationPrincipal User currentUser) {
-                applicationService.validateOwnership(id, currentUser);
-                applicationService.deleteApplication(id);
+                        @AuthenticationPrincipal AuthenticatedUser currentUser) {
+                applicationService.deleteApplication(id, currentUser.id());
                 return ResponseEntity.noContent().build();
         }
-}
\ No newline at end of file
+
+        private void writeLine(OutputStream output, ApplicationImportResult result) {
+                try {
+                        output.write(objectMapper.writeValueAsBytes(result));
+                        output.write('\n');
+                } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                }
+        }
+}
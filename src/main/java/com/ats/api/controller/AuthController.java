@@ -4,8 +4,13 @@ import com.ats.api.dto.request.UserLoginRequest;
 import com.ats.api.dto.request.UserRegistrationRequest;
 import com.ats.api.dto.response.AuthResponse;
 import com.ats.api.dto.response.UserResponse;
+import com.ats.domain.entity.User;
+import com.ats.security.AuthenticatedUser;
+import com.ats.security.JwtAuthenticationFilter;
 import com.ats.security.JwtTokenProvider;
+import com.ats.security.TokenRevocationService;
 import com.ats.service.UserService;
+import io.jsonwebtoken.Claims;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -17,6 +22,7 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 /**
@@ -24,7 +30,9 @@ import org.springframework.web.bind.annotation.*;
  * Endpoints:
  * - POST /api/auth/register: Register a new user (Candidate or Recruiter)
  * - POST /api/auth/login: Login and receive JWT token
- * These endpoints are publicly accessible (no JWT required).
+ * - POST /api/auth/logout: Revoke the current JWT token
+ * - POST /api/auth/logout-all: Revoke every JWT token of the current user
+ * Register and login are publicly accessible (no JWT required).
  * Other endpoints require valid JWT in Authorization header.
  */
 @Slf4j
@@ -36,6 +44,7 @@ public class AuthController {
         private final UserService userService;
         private final AuthenticationManager authenticationManager;
         private final JwtTokenProvider jwtTokenProvider;
+        private final TokenRevocationService tokenRevocationService;
 
         /**
          * Registers a new user account.
@@ -68,7 +77,11 @@ public class AuthController {
                 UserResponse user = userService.register(request);
 
                 // Generate JWT token immediately after registration (for convenience)
-                String token = jwtTokenProvider.generateTokenFromUsername(user.getUsername());
+                String token = jwtTokenProvider.generateToken(new AuthenticatedUser(
+                                user.getId(),
+                                user.getUsername(),
+                                user.getRole(),
+                                true));
 
                 // Build response with token + user info
                 AuthResponse response = AuthResponse.builder()
@@ -111,7 +124,7 @@ public class AuthController {
 
                 // Authenticate using Spring Security's AuthenticationManager
                 // This will:
-                // 1. Load user from database via CustomUserDetailsService
+                // 1. Load user from database via CustomUserDetailsService (single query)
                 // 2. Compare provided password with stored hash using Bcrypt
                 // 3. Return Authentication object if valid, throw exception if invalid
                 Authentication authentication = authenticationManager.authenticate(
@@ -119,13 +132,11 @@ public class AuthController {
                                                 request.getUsernameOrEmail(),
                                                 request.getPassword()));
 
-                // Generate JWT token from authenticated user
-                String token = jwtTokenProvider.generateToken(authentication);
-
-                // Fetch user details for response
-                UserResponse user = userService.findByUsername(authentication.getName())
-                                .map(UserResponse::fromEntity)
-                                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+                // The principal is the user entity loaded during authentication,
+                // reuse it for both the token and the response
+                User authenticatedUser = (User) authentication.getPrincipal();
+                String token = jwtTokenProvider.generateToken(AuthenticatedUser.from(authenticatedUser));
+                UserResponse user = UserResponse.fromEntity(authenticatedUser);
 
                 // Build response
                 AuthResponse response = AuthResponse.builder()
@@ -136,4 +147,33 @@ public class AuthController {
                 log.info("User logged in successfully: {}", user.getUsername());
                 return ResponseEntity.ok(response);
         }
-}
\ No newline at end of file
+
+        /**
+         * Revokes the token used for this request; it is rejected from now on
+         * even though it has not expired yet.
+         *
+         * @param claims verified claims of the current token
+         * @return 204 No Content
+         * @throws IllegalArgumentException if the token has no id
+         */
+        @PostMapping("/logout")
+        @Operation(summary = "Logout", description = "Revoke the current JWT token")
+        public ResponseEntity<Void> logout(
+                        @RequestAttribute(JwtAuthenticationFilter.CLAIMS_ATTRIBUTE) Claims claims) {
+                tokenRevocationService.revoke(claims);
+                return ResponseEntity.noContent().build();
+        }
+
+        /**
+         * Revokes every token issued to the current user so far (logout everywhere).
+         *
+         * @param currentUser authenticated user
+         * @return 204 No Content
+         */
+        @PostMapping("/logout-all")
+        @Operation(summary = "Logout everywhere", description = "Revoke all JWT tokens of the current user")
+        public ResponseEntity<Void> logoutAll(@AuthenticationPrincipal AuthenticatedUser currentUser) {
+                tokenRevocationService.revokeAll(currentUser.username());
+                return ResponseEntity.noContent().build();
+        }
+}
@@ -0,0 +1,26 @@
+package com.ats.api.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for bulk user provisioning requests.
+ * Rows are validated individually so one bad row does not reject the batch.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkUserRegistrationRequest {
+    public static final int MAX_USERS = 10_000;
+
+    @NotEmpty(message = "At least one user is required")
+    @Size(max = MAX_USERS, message = "At most " + MAX_USERS + " users per request")
+    private List<UserRegistrationRequest> users;
+}
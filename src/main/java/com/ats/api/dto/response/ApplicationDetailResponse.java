@@ -1,7 +1,9 @@
 package com.ats.api.dto.response;
 
 import com.ats.domain.entity.Application;
+import com.ats.domain.entity.ApplicationNote;
 import com.ats.domain.entity.ApplicationStatus;
+import com.ats.domain.entity.ApplicationStatusHistory;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -32,6 +34,17 @@ public class ApplicationDetailResponse {
         private List<ApplicationNoteResponse> applicationNotes;
 
         public static ApplicationDetailResponse fromEntity(Application application) {
+                return fromEntity(application, application.getStatusHistory(), application.getApplicationNotes());
+        }
+
+        /**
+         * @param statusHistory the application's status history, when loaded separately from it
+         * @param notes         the application's notes, when loaded separately from it
+         */
+        public static ApplicationDetailResponse fromEntity(
+                        Application application,
+                        List<ApplicationStatusHistory> statusHistory,
+                        List<ApplicationNote> notes) {
                 return ApplicationDetailResponse.builder()
                                 .id(application.getId())
                                 .companyName(application.getCompanyName())
@@ -42,10 +55,10 @@ public class ApplicationDetailResponse {
                                 .notes(application.getNotes())
                                 .createdAt(application.getCreatedAt())
                                 .updatedAt(application.getUpdatedAt())
-                                .statusHistory(application.getStatusHistory().stream()
+                                .statusHistory(statusHistory.stream()
                                                 .map(ApplicationStatusHistoryResponse::fromEntity)
                                                 .toList())
-                                .applicationNotes(application.getApplicationNotes().stream()
+                                .applicationNotes(notes.stream()
                                                 .map(ApplicationNoteResponse::fromEntity)
                                                 .toList())
                                 .build();
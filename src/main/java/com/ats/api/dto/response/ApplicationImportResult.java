@@ -0,0 +1,32 @@
+package com.ats.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for one line of an application import response (NDJSON).
+ * Each input row yields an IMPORTED or FAILED line; invalid rows are reported
+ * as soon as they are read, valid rows once their chunk is stored. The last
+ * line is COMPLETED and carries the totals.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApplicationImportResult {
+    private ImportStatus status;
+    /** 1-based data row (CSV rows after the header, NDJSON values) */
+    private Long row;
+    private Long id;
+    private String error;
+    private Long imported;
+    private Long failed;
+
+    public enum ImportStatus {
+        IMPORTED,
+        FAILED,
+        COMPLETED
+    }
+}
@@ -0,0 +1,38 @@
+package com.ats.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for bulk user provisioning responses, with one result per request row.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkUserRegistrationResponse {
+    private int created;
+    private int failed;
+    private List<RowResult> results;
+
+    public enum RowStatus {
+        CREATED,
+        FAILED
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RowResult {
+        private int index;
+        private String username;
+        private RowStatus status;
+        private Long id;
+        private String error;
+    }
+}
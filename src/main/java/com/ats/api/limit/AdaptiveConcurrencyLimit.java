@@ -0,0 +1,98 @@
+package com.ats.api.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Concurrency limit of one endpoint group, adjusted with AIMD
+ * (additive increase, multiplicative decrease).
+ * ------------
+ * - tryAcquire() admits a request while fewer than limit requests are in flight
+ * - Each completed request is a sample. A sample is "overloaded" when it was
+ *   slower than the latency threshold or threads were waiting for a database
+ *   connection; the limit is then multiplied by the backoff ratio (at most once
+ *   per threshold period, so one burst of slow requests counts once)
+ * - A healthy sample while at least half the limit was in use raises the limit by one
+ * The limit settles just below the concurrency at which latency starts to grow,
+ * and requests beyond it are shed instead of queueing on the connection pool.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+    private volatile int limit;
+    private long lastDecreaseNanos;
+
+    public AdaptiveConcurrencyLimit(
+            String name, int initialLimit, int minLimit, int maxLimit, double backoffRatio, long latencyThresholdNanos) {
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+        this.lastDecreaseNanos = System.nanoTime() - latencyThresholdNanos;
+    }
+
+    /**
+     * Admits a request if the group is below its limit.
+     *
+     * @return the number of requests in flight including this one, or -1 if rejected
+     */
+    public int tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                rejected.incrementAndGet();
+                return -1;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    /**
+     * Completes an admitted request and feeds its latency into the limit.
+     *
+     * @param inFlightAtStart value returned by tryAcquire
+     * @param overloaded      whether the backend showed saturation (e.g. connection waiters)
+     */
+    public void release(int inFlightAtStart, long latencyNanos, boolean overloaded) {
+        inFlight.decrementAndGet();
+        onSample(inFlightAtStart, latencyNanos, overloaded, System.nanoTime());
+    }
+
+    synchronized void onSample(int inFlightAtStart, long latencyNanos, boolean overloaded, long now) {
+        if (overloaded || latencyNanos > latencyThresholdNanos) {
+            if (now - lastDecreaseNanos >= latencyThresholdNanos) {
+                limit = Math.max(minLimit, (int) (limit * backoffRatio));
+                lastDecreaseNanos = now;
+            }
+        } else if (inFlightAtStart * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejected() {
+        return rejected.get();
+    }
+}
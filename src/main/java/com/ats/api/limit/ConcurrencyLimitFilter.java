@@ -0,0 +1,140 @@
+package com.ats.api.limit;
+
+import com.ats.exception.GlobalExceptionHandler.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.NonNull;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Servlet filter enforcing the ConcurrencyLimiter. It runs before Spring
+ * Security, so shed requests cost neither token verification nor a connection.
+ * Requests over the limit get 503 Service Unavailable with Retry-After.
+ * Async requests (streamed imports and exports) keep their permit until the
+ * async processing completes, not just until the chain returns.
+ */
+@RequiredArgsConstructor
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !concurrencyLimiter.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        AdaptiveConcurrencyLimit limit = concurrencyLimiter.get(group(request));
+        int inFlight = limit.tryAcquire();
+        if (inFlight < 0) {
+            reject(response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnComplete(limit, inFlight, start, failed, response));
+            } else {
+                release(limit, inFlight, start, failed, response);
+            }
+        }
+    }
+
+    private void release(
+            AdaptiveConcurrencyLimit limit, int inFlight, long start, boolean failed, HttpServletResponse response) {
+        boolean overloaded = failed
+                || response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value()
+                || concurrencyLimiter.isConnectionPoolSaturated();
+        limit.release(inFlight, System.nanoTime() - start, overloaded);
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ErrorResponse.builder()
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .message("Server is busy, please retry")
+                .timestamp(LocalDateTime.now())
+                .build());
+    }
+
+    private static ConcurrencyLimiter.Group group(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.startsWith("/actuator/")) {
+            return ConcurrencyLimiter.Group.HEALTH;
+        }
+        if (path.startsWith("/auth/")) {
+            return ConcurrencyLimiter.Group.AUTH;
+        }
+        if (path.equals("/applications/import") || path.equals("/applications/export")) {
+            return ConcurrencyLimiter.Group.STREAMING;
+        }
+        return ConcurrencyLimiter.Group.APPLICATIONS;
+    }
+
+    /**
+     * Releases the permit of an async request once it completes. onComplete
+     * also follows a timeout or an error, which only mark the request failed.
+     */
+    private class ReleaseOnComplete implements AsyncListener {
+
+        private final AdaptiveConcurrencyLimit limit;
+        private final int inFlight;
+        private final long start;
+        private final HttpServletResponse response;
+        private volatile boolean failed;
+
+        ReleaseOnComplete(
+                AdaptiveConcurrencyLimit limit, int inFlight, long start, boolean failed, HttpServletResponse response) {
+            this.limit = limit;
+            this.inFlight = inFlight;
+            this.start = start;
+            this.failed = failed;
+            this.response = response;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release(limit, inFlight, start, failed, response);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            failed = true;
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            failed = true;
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Listeners are dropped when async processing restarts
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
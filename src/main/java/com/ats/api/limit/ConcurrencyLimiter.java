@@ -0,0 +1,150 @@
+package com.ats.api.limit;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Adaptive concurrency limits per endpoint group (see AdaptiveConcurrencyLimit).
+ * ------------
+ * Groups:
+ * - HEALTH: /actuator/** - kept separate so probes answer while the API sheds load
+ * - AUTH: /auth/** - password hashing bound, slower by design
+ * - STREAMING: /applications/import and /applications/export - a fixed limit,
+ *   since their duration follows the file size and the client's bandwidth and
+ *   says nothing about load
+ * - APPLICATIONS: /applications/** and every other API endpoint
+ * ------------
+ * Besides latency, the Hikari pool is consulted: threads waiting for a
+ * connection mean the database is the bottleneck, which counts as overload.
+ * ------------
+ * Metrics (tag group): concurrency.limit, concurrency.in_flight, concurrency.rejected.
+ * The current limits are also served by the "concurrencylimits" actuator endpoint.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConcurrencyLimiter {
+
+    private final DataSource dataSource;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.concurrency-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.concurrency-limit.min-limit:2}")
+    private int minLimit;
+
+    @Value("${app.concurrency-limit.backoff-ratio:0.9}")
+    private double backoffRatio;
+
+    @Value("${app.concurrency-limit.health.max-limit:20}")
+    private int healthMaxLimit;
+
+    @Value("${app.concurrency-limit.health.latency-threshold:1s}")
+    private Duration healthLatencyThreshold;
+
+    @Value("${app.concurrency-limit.auth.max-limit:50}")
+    private int authMaxLimit;
+
+    @Value("${app.concurrency-limit.auth.latency-threshold:2s}")
+    private Duration authLatencyThreshold;
+
+    @Value("${app.concurrency-limit.applications.max-limit:200}")
+    private int applicationsMaxLimit;
+
+    @Value("${app.concurrency-limit.applications.latency-threshold:500ms}")
+    private Duration applicationsLatencyThreshold;
+
+    @Value("${app.concurrency-limit.streaming.max-limit:4}")
+    private int streamingMaxLimit;
+
+    private final Map<Group, AdaptiveConcurrencyLimit> limits = new EnumMap<>(Group.class);
+    private HikariDataSource hikariDataSource;
+
+    @PostConstruct
+    void init() {
+        register(Group.HEALTH, minLimit, healthMaxLimit, healthLatencyThreshold);
+        register(Group.AUTH, minLimit, authMaxLimit, authLatencyThreshold);
+        register(Group.APPLICATIONS, minLimit, applicationsMaxLimit, applicationsLatencyThreshold);
+        // Minimum = maximum: samples never move the limit
+        register(Group.STREAMING, streamingMaxLimit, streamingMaxLimit, Duration.ofHours(1));
+        hikariDataSource = unwrapHikari(dataSource);
+        log.info("Concurrency limiting {}", enabled ? "enabled" : "disabled");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public AdaptiveConcurrencyLimit get(Group group) {
+        return limits.get(group);
+    }
+
+    public Collection<AdaptiveConcurrencyLimit> getLimits() {
+        return limits.values();
+    }
+
+    /**
+     * Whether threads are currently waiting for a database connection.
+     */
+    public boolean isConnectionPoolSaturated() {
+        if (hikariDataSource == null) {
+            return false;
+        }
+        HikariPoolMXBean pool = hikariDataSource.getHikariPoolMXBean();
+        return pool != null && pool.getThreadsAwaitingConnection() > 0;
+    }
+
+    /** Endpoint groups with separate limits */
+    public enum Group {
+        HEALTH,
+        AUTH,
+        STREAMING,
+        APPLICATIONS
+    }
+
+    private void register(Group group, int minLimit, int maxLimit, Duration latencyThreshold) {
+        String name = group.name().toLowerCase();
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(
+                name, maxLimit / 2, minLimit, maxLimit, backoffRatio, latencyThreshold.toNanos());
+        limits.put(group, limit);
+
+        Gauge.builder("concurrency.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                .description("Current adaptive concurrency limit")
+                .tag("group", name)
+                .register(meterRegistry);
+        Gauge.builder("concurrency.in_flight", limit, AdaptiveConcurrencyLimit::getInFlight)
+                .description("Requests currently in flight")
+                .tag("group", name)
+                .register(meterRegistry);
+        FunctionCounter.builder("concurrency.rejected", limit, AdaptiveConcurrencyLimit::getRejected)
+                .description("Requests shed because the concurrency limit was reached")
+                .tag("group", name)
+                .register(meterRegistry);
+    }
+
+    private static HikariDataSource unwrapHikari(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class)
+                    ? dataSource.unwrap(HikariDataSource.class)
+                    : null;
+        } catch (SQLException ex) {
+            return null;
+        }
+    }
+}
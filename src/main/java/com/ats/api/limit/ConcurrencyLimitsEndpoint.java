@@ -0,0 +1,32 @@
+package com.ats.api.limit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint (/actuator/concurrencylimits) showing the current adaptive
+ * concurrency limit, in-flight requests and shed requests per group.
+ */
+@Component
+@Endpoint(id = "concurrencylimits")
+@RequiredArgsConstructor
+public class ConcurrencyLimitsEndpoint {
+
+    private final ConcurrencyLimiter concurrencyLimiter;
+
+    @ReadOperation
+    public Map<String, GroupLimit> limits() {
+        Map<String, GroupLimit> limits = new LinkedHashMap<>();
+        concurrencyLimiter.getLimits().forEach(limit -> limits.put(limit.getName(),
+                new GroupLimit(limit.getLimit(), limit.getInFlight(), limit.getRejected())));
+        return limits;
+    }
+
+    public record GroupLimit(int limit, int inFlight, long rejected) {
+    }
+}
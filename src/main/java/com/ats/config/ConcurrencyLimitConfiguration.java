@@ -0,0 +1,26 @@
+package com.ats.config;
+
+import com.ats.api.limit.ConcurrencyLimitFilter;
+import com.ats.api.limit.ConcurrencyLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Registers the adaptive concurrency limit filter ahead of the Spring Security
+ * filter chain, so shed requests are rejected before any other work.
+ */
+@Configuration
+public class ConcurrencyLimitConfiguration {
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            ConcurrencyLimiter concurrencyLimiter, ObjectMapper objectMapper) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+                new FilterRegistrationBean<>(new ConcurrencyLimitFilter(concurrencyLimiter, objectMapper));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 100);
+        return registration;
+    }
+}
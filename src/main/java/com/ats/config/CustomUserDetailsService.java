@@ -1,26 +1,47 @@
 package com.ats.config;
 
+import com.ats.datasource.ReadYourWrites;
+import com.ats.domain.entity.User;
 import com.ats.domain.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Custom implementation of UserDetailsService to load user details
  * from the database using UserRepository.
+ * It also stores re-encoded password hashes when the password encoder reports
+ * that a hash was produced with an outdated work factor.
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
     @Override
     public UserDetails loadUserByUsername(String usernameOrEmail) throws UsernameNotFoundException {
-        return userRepository.findByUsername(usernameOrEmail)
-                .or(() -> userRepository.findByEmail(usernameOrEmail))
-                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + usernameOrEmail));
+        // Credentials and account state must not lag behind a change on the primary
+        try (ReadYourWrites.Scope ignored = ReadYourWrites.primaryOnly()) {
+            return userRepository.findByUsernameOrEmail(usernameOrEmail)
+                    .orElseThrow(() -> new UsernameNotFoundException("User not found: " + usernameOrEmail));
+        }
     }
-}
\ No newline at end of file
+
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        // The given user is detached; the managed copy usually comes from the cache
+        User entity = userRepository.findById(((User) user).getId())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + user.getUsername()));
+        entity.setPassword(newPassword);
+        log.info("Password hash upgraded for user: {}", entity.getUsername());
+        return entity;
+    }
+}
@@ -0,0 +1,130 @@
+package com.ats.config;
+
+import com.ats.datasource.ReadYourWrites;
+import com.ats.datasource.ReadYourWritesFilter;
+import com.ats.datasource.ReplicaRouter;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sends read-only transactions to streaming replicas when
+ * app.datasource.replica.urls is set; otherwise the auto-configured
+ * DataSource is used for everything.
+ * ------------
+ * The application DataSource defers fetching a physical connection until the
+ * first statement, when the transaction's read-only flag is known:
+ * - read-only: ReplicaRouter picks a caught-up replica or the primary
+ * - read-write: the primary, with ReadYourWrites recording the WAL position
+ *   after commit
+ * Replica pools copy the primary's Hikari settings and credentials.
+ * ------------
+ * Open-in-view must stay disabled: an EntityManager spanning the request would
+ * keep the connection of its first transaction for the following ones.
+ */
+@Configuration
+@ConditionalOnExpression("!'${app.datasource.replica.urls:}'.isBlank()")
+public class ReplicaRoutingConfiguration {
+
+    /** Comma-separated JDBC URLs of the replicas */
+    @Value("${app.datasource.replica.urls}")
+    private List<String> replicaUrls;
+
+    /** How often replica replay positions are refreshed */
+    @Value("${app.datasource.replica.poll-interval:500ms}")
+    private Duration pollInterval;
+
+    /** How long a user's reads wait for replicas to replay their last write */
+    @Value("${app.datasource.replica.read-your-writes.ttl:1m}")
+    private Duration readYourWritesTtl;
+
+    /** Maximum number of users whose last write position is kept */
+    @Value("${app.datasource.replica.read-your-writes.max-size:100000}")
+    private long readYourWritesMaxSize;
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(
+            DataSourceProperties properties, ObjectProvider<JdbcConnectionDetails> connectionDetails) {
+        JdbcConnectionDetails details = connectionDetails.getIfAvailable();
+        HikariDataSource dataSource = details == null
+                ? properties.initializeDataSourceBuilder().type(HikariDataSource.class).build()
+                : DataSourceBuilder.create(properties.getClassLoader())
+                        .type(HikariDataSource.class)
+                        .driverClassName(details.getDriverClassName())
+                        .url(details.getJdbcUrl())
+                        .username(details.getUsername())
+                        .password(details.getPassword())
+                        .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWrites readYourWrites() {
+        return new ReadYourWrites(readYourWritesTtl, readYourWritesMaxSize);
+    }
+
+    @Bean
+    public ReplicaRouter replicaRouter(
+            @Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+            ReadYourWrites readYourWrites,
+            MeterRegistry meterRegistry) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<String> urls = replicaUrls.stream().map(String::trim).filter(url -> !url.isEmpty()).toList();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariConfig config = new HikariConfig();
+            primaryDataSource.copyStateTo(config);
+            config.setJdbcUrl(urls.get(i));
+            config.setPoolName("replica-" + (i + 1));
+            config.setReadOnly(true);
+            // Start without the replica; the router skips it until it answers a poll
+            config.setInitializationFailTimeout(-1);
+            replicas.put(config.getPoolName(), new HikariDataSource(config));
+        }
+        return new ReplicaRouter(
+                primaryDataSource, replicas, readYourWrites, pollInterval, Clock.systemUTC(), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+            ReadYourWrites readYourWrites,
+            ReplicaRouter replicaRouter) {
+        LazyConnectionDataSourceProxy dataSource =
+                new LazyConnectionDataSourceProxy(readYourWrites.trackingWrites(primaryDataSource));
+        dataSource.setReadOnlyDataSource(replicaRouter.readOnlyDataSource());
+        return dataSource;
+    }
+
+    /** Runs after the concurrency limit, so shed requests are not tracked */
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ReadYourWrites readYourWrites) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(readYourWrites));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 110);
+        return registration;
+    }
+}
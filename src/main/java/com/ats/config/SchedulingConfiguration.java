@@ -0,0 +1,12 @@
+package com.ats.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs (e.g. token revocation sync and pruning).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfiguration {
+}
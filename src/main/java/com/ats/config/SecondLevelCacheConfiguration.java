@@ -0,0 +1,105 @@
+package com.ats.config;
+
+import com.ats.domain.entity.Application;
+import com.ats.domain.entity.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.CacheSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate second-level cache: JCache regions backed by Caffeine, one per
+ * cached entity and natural id, each with its own size and TTL.
+ * ------------
+ * Regions:
+ * - users: User by id (UserServiceImpl, principal loading)
+ * - users-by-username: username to user id, for natural-id lookups (login)
+ * - applications: Application by id (application details)
+ * ------------
+ * The cache is local to each instance. Changes made through Hibernate on this
+ * instance update it at commit; changes made elsewhere (another instance, SQL
+ * outside Hibernate) are only seen once the entry expires, so TTLs bound the
+ * staleness. A request carrying a write position (see ReadYourWrites) reads
+ * application details from the database instead, so a write made through
+ * another instance is visible to it at once (see
+ * ApplicationRepositoryCustom.findCurrentById). Native statements changing
+ * cached rows must lock the entry first (see
+ * ApplicationRepositoryCustom.lockCachedApplication).
+ * Regions are never created on the fly: an entity cached in an unconfigured
+ * region fails at startup.
+ * ------------
+ * Hit/miss/eviction counts are published as "cache.*" metrics tagged with the
+ * region name, like the principal cache.
+ */
+@Configuration
+public class SecondLevelCacheConfiguration {
+
+    @Value("${app.second-level-cache.users.max-size:10000}")
+    private long usersMaxSize;
+
+    @Value("${app.second-level-cache.users.ttl:5m}")
+    private Duration usersTtl;
+
+    @Value("${app.second-level-cache.users-by-username.max-size:10000}")
+    private long usersByUsernameMaxSize;
+
+    @Value("${app.second-level-cache.users-by-username.ttl:1h}")
+    private Duration usersByUsernameTtl;
+
+    @Value("${app.second-level-cache.applications.max-size:100000}")
+    private long applicationsMaxSize;
+
+    @Value("${app.second-level-cache.applications.ttl:1m}")
+    private Duration applicationsTtl;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(MeterRegistry meterRegistry) {
+        // A manager of its own: the provider's default one is shared by everything in the JVM
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("second-level-cache-" + UUID.randomUUID()), getClass().getClassLoader());
+        createRegion(cacheManager, meterRegistry, User.CACHE_REGION, usersMaxSize, usersTtl);
+        createRegion(cacheManager, meterRegistry, User.NATURAL_ID_CACHE_REGION,
+                usersByUsernameMaxSize, usersByUsernameTtl);
+        createRegion(cacheManager, meterRegistry, Application.CACHE_REGION, applicationsMaxSize, applicationsTtl);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheProperties(CacheManager secondLevelCacheManager) {
+        return properties -> {
+            properties.put(CacheSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(CacheSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+            properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private static void createRegion(
+            CacheManager cacheManager, MeterRegistry meterRegistry, String name, long maxSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>()
+                .setMaximumSize(OptionalLong.of(maxSize))
+                .setExpireAfterWrite(OptionalLong.of(ttl.toNanos()))
+                // Hibernate stores disassembled, immutable entries; copying them on every access buys nothing
+                .setStoreByValue(false)
+                .setNativeStatisticsEnabled(true);
+        @SuppressWarnings("unchecked")
+        Cache<Object, Object> region = cacheManager.createCache(name, configuration).unwrap(Cache.class);
+        CaffeineCacheMetrics.monitor(meterRegistry, region, name);
+    }
+}
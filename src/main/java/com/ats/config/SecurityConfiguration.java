@@ -1,8 +1,18 @@
 package com.ats.config;
 
+import com.ats.security.AdaptiveBCryptPasswordEncoder;
+import com.ats.security.BulkheadPasswordEncoder;
 import com.ats.security.JwtAuthenticationFilter;
 import com.ats.security.JwtTokenProvider;
+import com.ats.security.PrincipalCache;
+import com.ats.security.RateLimitFilter;
+import com.ats.security.RateLimiter;
+import com.ats.security.TokenRevocationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -14,11 +24,13 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.time.Duration;
+import java.util.Map;
+
 /**
  * Security configuration for the application.
  * It sets up JWT authentication, password encoding,
@@ -32,10 +44,65 @@ public class SecurityConfiguration {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationService tokenRevocationService;
+    private final MeterRegistry meterRegistry;
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    /** Build the request principal from token claims instead of loading the user */
+    @Value("${app.jwt.stateless-principal:false}")
+    private boolean statelessPrincipal;
+
+    /** Concurrent password hashes; 0 means half of the available CPUs */
+    @Value("${app.security.password-hashing.threads:0}")
+    private int passwordHashingThreads;
+
+    /** Hashing requests allowed to wait before new ones are rejected */
+    @Value("${app.security.password-hashing.queue-capacity:64}")
+    private int passwordHashingQueueCapacity;
+
+    /** Maximum time a request waits for its hash to complete */
+    @Value("${app.security.password-hashing.timeout:5s}")
+    private Duration passwordHashingTimeout;
 
+    /** Fixed BCrypt work factor; 0 means calibrate against the target latency */
+    @Value("${app.security.password-hashing.strength:0}")
+    private int passwordHashingStrength;
+
+    /** Hash time the calibrated work factor should come closest to */
+    @Value("${app.security.password-hashing.target-latency:80ms}")
+    private Duration passwordHashingTargetLatency;
+
+    @Value("${app.security.password-hashing.min-strength:10}")
+    private int passwordHashingMinStrength;
+
+    @Value("${app.security.password-hashing.max-strength:16}")
+    private int passwordHashingMaxStrength;
+
+    /**
+     * Password hashing runs on a dedicated bounded executor, kept separate from
+     * Tomcat request threads so login/registration spikes cannot starve other endpoints.
+     * New hashes are stored as {bcrypt} with the calibrated work factor; legacy
+     * unprefixed hashes still match and are re-encoded on the next login.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BulkheadPasswordEncoder passwordEncoder() {
+        int threads = passwordHashingThreads > 0
+                ? passwordHashingThreads
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AdaptiveBCryptPasswordEncoder bcrypt = passwordHashingStrength > 0
+                ? new AdaptiveBCryptPasswordEncoder(passwordHashingStrength)
+                : AdaptiveBCryptPasswordEncoder.calibrate(
+                        passwordHashingTargetLatency, passwordHashingMinStrength, passwordHashingMaxStrength);
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        return new BulkheadPasswordEncoder(
+                delegating,
+                threads,
+                passwordHashingQueueCapacity,
+                passwordHashingTimeout,
+                meterRegistry);
     }
 
     @Bean
@@ -50,7 +117,8 @@ public class SecurityConfiguration {
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService);
+        return new JwtAuthenticationFilter(
+                jwtTokenProvider, principalCache, tokenRevocationService, statelessPrincipal);
     }
 
     @Bean
@@ -59,13 +127,17 @@ public class SecurityConfiguration {
                 .csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auths -> auths
+                        // Completion of streamed responses (import, export): the request was
+                        // authorized on its first dispatch, and the stateless JWT context is gone
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // Public endpoints
                         .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html", "/actuator/health")
                         .permitAll()
                         .requestMatchers(HttpMethod.POST, "/auth/register", "/auth/login").permitAll()
 
                         // Admin endpoints
-                        .requestMatchers(HttpMethod.GET, "/admin/**").hasRole("RECRUITER")
+                        .requestMatchers("/admin/**").hasRole("RECRUITER")
 
                         // Application endpoints - require authentication
                         .requestMatchers("/applications/**").authenticated()
@@ -73,7 +145,9 @@ public class SecurityConfiguration {
 
                         // Catch all - require authentication
                         .anyRequest().authenticated())
-                .addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class)
+                // Not a bean, so it only runs inside the security chain (after the principal is known)
+                .addFilterAfter(new RateLimitFilter(rateLimiter, objectMapper), JwtAuthenticationFilter.class);
 
         return http.build();
     }
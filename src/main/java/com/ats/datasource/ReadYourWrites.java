@@ -0,0 +1,212 @@
+package com.ats.datasource;
+
+import com.ats.security.AuthenticatedUser;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Read-your-writes consistency for reads served by replicas.
+ * ------------
+ * Positions are Postgres WAL positions (LSNs) as byte offsets. After a
+ * read-write transaction of a request commits, the primary's current WAL
+ * position is recorded:
+ * - per user, for the configured TTL, so the user's next requests wait for it
+ *   even if the client ignores the header
+ * - in the X-Write-LSN response header, as text (e.g. 16/B374D848), if the
+ *   response is not committed yet
+ * Clients may send the header back on later requests, e.g. to another
+ * instance. A read requires the highest of the header's and the user's
+ * positions; replicas that have not replayed that far are skipped.
+ * ------------
+ * Only requests passing through ReadYourWritesFilter are tracked; background
+ * jobs and work on other threads (e.g. streamed imports) are not. Reads that
+ * must not lag at all, such as security state shared between instances, run
+ * in a primaryOnly() scope.
+ */
+@Slf4j
+public class ReadYourWrites {
+
+    public static final String HEADER = "X-Write-LSN";
+
+    private static final String CURRENT_POSITION_SQL = "SELECT pg_current_wal_lsn() - '0/0'::pg_lsn";
+
+    /** Required position no replica reaches */
+    private static final long PRIMARY_ONLY = Long.MAX_VALUE;
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private final Cache<Long, Long> userPositions;
+
+    public ReadYourWrites(Duration ttl, long maxUsers) {
+        userPositions = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxUsers)
+                .build();
+    }
+
+    /**
+     * Starts tracking a request on the calling thread.
+     *
+     * @param headerPosition position sent by the client, or 0
+     * @param response       receives the header after a write, may be null
+     */
+    public Scope open(long headerPosition, HttpServletResponse response) {
+        Scope scope = new Scope(headerPosition, response, CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * Sends the calling thread's read-only transactions to the primary until
+     * the scope is closed. Scopes nest: closing it restores the enclosing one.
+     * Works whether or not replica routing is configured.
+     */
+    public static Scope primaryOnly() {
+        Scope scope = new Scope(PRIMARY_ONLY, null, CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /** WAL position replicas must have replayed to serve the current request */
+    public long requiredPosition() {
+        Scope scope = CURRENT.get();
+        if (scope == null) {
+            return 0;
+        }
+        if (scope.position == PRIMARY_ONLY) {
+            return PRIMARY_ONLY;
+        }
+        Long userId = currentUserId();
+        Long userPosition = userId == null ? null : userPositions.getIfPresent(userId);
+        return Math.max(scope.position, userPosition == null ? 0 : userPosition);
+    }
+
+    /**
+     * Wraps the primary DataSource so that each read-write transaction of a
+     * tracked request records the WAL position after it commits.
+     */
+    public DataSource trackingWrites(DataSource primary) {
+        return new DelegatingDataSource(primary) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                registerWrite(primary);
+                return super.getConnection();
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                registerWrite(primary);
+                return super.getConnection(username, password);
+            }
+        };
+    }
+
+    void recordWrite(Scope scope, long position) {
+        // A write inside a primaryOnly() scope counts for the request around it
+        while (scope.position == PRIMARY_ONLY) {
+            scope = scope.previous;
+            if (scope == null) {
+                return;
+            }
+        }
+        scope.position = Math.max(scope.position, position);
+        Long userId = currentUserId();
+        if (userId != null) {
+            userPositions.asMap().merge(userId, position, Math::max);
+        }
+        if (scope.response != null && !scope.response.isCommitted()) {
+            scope.response.setHeader(HEADER, format(scope.position));
+        }
+    }
+
+    private void registerWrite(DataSource primary) {
+        Scope scope = CURRENT.get();
+        if (scope == null
+                || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try (Connection connection = primary.getConnection();
+                     Statement statement = connection.createStatement();
+                     ResultSet position = statement.executeQuery(CURRENT_POSITION_SQL)) {
+                    position.next();
+                    recordWrite(scope, position.getLong(1));
+                } catch (SQLException ex) {
+                    // Reads fall back to replicas that may not have the write yet
+                    log.warn("Cannot read the WAL position after a write: {}", ex.getMessage());
+                }
+            }
+        });
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user
+                ? user.id()
+                : null;
+    }
+
+    /**
+     * @param text e.g. 16/B374D848
+     * @throws IllegalArgumentException if text is not an LSN
+     */
+    public static long parse(String text) {
+        int slash = text.indexOf('/');
+        if (slash < 1 || slash == text.length() - 1) {
+            throw new IllegalArgumentException("Invalid LSN: " + text);
+        }
+        try {
+            long high = Long.parseLong(text.substring(0, slash), 16);
+            long low = Long.parseLong(text.substring(slash + 1), 16);
+            if (high > 0xFFFFFFFFL || low > 0xFFFFFFFFL) {
+                throw new IllegalArgumentException("Invalid LSN: " + text);
+            }
+            return high << 32 | low;
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid LSN: " + text, ex);
+        }
+    }
+
+    public static String format(long position) {
+        return Long.toHexString(position >>> 32).toUpperCase() + "/" + Long.toHexString(position & 0xFFFFFFFFL).toUpperCase();
+    }
+
+    /** Tracking of one request; closing it restores the enclosing scope, if any */
+    public static final class Scope implements AutoCloseable {
+        private final HttpServletResponse response;
+        private final Scope previous;
+        private volatile long position;
+
+        private Scope(long position, HttpServletResponse response, Scope previous) {
+            this.position = position;
+            this.response = response;
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.ats.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Servlet filter tracking each request for ReadYourWrites. A client may send
+ * the X-Write-LSN header of an earlier response; a malformed value is ignored.
+ */
+@RequiredArgsConstructor
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final ReadYourWrites readYourWrites;
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        try (ReadYourWrites.Scope ignored = readYourWrites.open(headerPosition(request), response)) {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    private static long headerPosition(HttpServletRequest request) {
+        String header = request.getHeader(ReadYourWrites.HEADER);
+        if (header == null) {
+            return 0;
+        }
+        try {
+            return ReadYourWrites.parse(header.trim());
+        } catch (IllegalArgumentException ex) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.ats.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Picks the DataSource for read-only transactions: a replica that has caught
+ * up with ReadYourWrites.requiredPosition(), or the primary.
+ * ------------
+ * Each replica's replay position is polled (see poll()). A replica is a
+ * candidate when its last poll succeeded within three poll intervals and it
+ * has replayed the required position; candidates are taken in turn.
+ * Without a candidate, or when the replica refuses a connection, the read
+ * goes to the primary; so do reads in a ReadYourWrites.primaryOnly() scope,
+ * whose required position no replica reaches.
+ * ------------
+ * Metrics: datasource.replica.reads (tag target: replica or primary) and
+ * datasource.replica.lag.bytes (tag replica) behind the primary.
+ */
+@Slf4j
+public class ReplicaRouter implements DisposableBean {
+
+    /** Works on a primary too, so a misconfigured URL is a caught-up replica rather than an error */
+    private static final String REPLAY_POSITION_SQL = "SELECT CASE WHEN pg_is_in_recovery() "
+            + "THEN pg_last_wal_replay_lsn() ELSE pg_current_wal_lsn() END - '0/0'::pg_lsn";
+
+    private static final String PRIMARY_POSITION_SQL = "SELECT pg_current_wal_lsn() - '0/0'::pg_lsn";
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final ReadYourWrites readYourWrites;
+    private final Duration staleAfter;
+    private final Clock clock;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter replicaReads;
+    private final Counter primaryReads;
+    private volatile long primaryPosition;
+
+    /**
+     * @param replicas     replica DataSources by name; closed with the router if AutoCloseable
+     * @param pollInterval interval of the scheduled poll()
+     */
+    public ReplicaRouter(DataSource primary, Map<String, DataSource> replicas, ReadYourWrites readYourWrites,
+                         Duration pollInterval, Clock clock, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.readYourWrites = readYourWrites;
+        this.staleAfter = pollInterval.multipliedBy(3);
+        this.clock = clock;
+        replicas.forEach((name, dataSource) -> {
+            Replica replica = new Replica(name, dataSource);
+            this.replicas.add(replica);
+            Gauge.builder("datasource.replica.lag.bytes", replica,
+                            r -> r.polledAt == null ? Double.NaN : Math.max(0, primaryPosition - r.position))
+                    .tag("replica", name)
+                    .register(meterRegistry);
+        });
+        this.replicaReads = meterRegistry.counter("datasource.replica.reads", "target", "replica");
+        this.primaryReads = meterRegistry.counter("datasource.replica.reads", "target", "primary");
+    }
+
+    /**
+     * DataSource for read-only transactions, choosing the target per connection.
+     */
+    public DataSource readOnlyDataSource() {
+        return new AbstractDataSource() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return connect(DataSource::getConnection);
+            }
+
+            /**
+             * Routed like getConnection(), handing the credentials to the chosen
+             * pool rather than refusing them here: the caller (e.g. a
+             * UserCredentialsDataSourceAdapter) then sees the same routing, and
+             * a pool that only serves its configured user (Hikari) refuses them
+             * itself with SQLFeatureNotSupportedException.
+             */
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return connect(dataSource -> dataSource.getConnection(username, password));
+            }
+        };
+    }
+
+    /**
+     * Refreshes the replay position of every replica.
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.replica.poll-interval:500ms}")
+    public void poll() {
+        try {
+            primaryPosition = position(primary, PRIMARY_POSITION_SQL);
+        } catch (SQLException ex) {
+            log.debug("Primary WAL position unavailable: {}", ex.getMessage());
+        }
+        for (Replica replica : replicas) {
+            try {
+                replica.position = position(replica.dataSource, REPLAY_POSITION_SQL);
+                replica.polledAt = clock.instant();
+            } catch (SQLException ex) {
+                if (replica.polledAt != null) {
+                    log.warn("Replica {} unavailable: {}", replica.name, ex.getMessage());
+                }
+                replica.polledAt = null;
+            }
+        }
+    }
+
+    Connection connect(Connector connector) throws SQLException {
+        long required = readYourWrites.requiredPosition();
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.isCaughtUp(required)) {
+                continue;
+            }
+            try {
+                Connection connection = connector.connect(replica.dataSource);
+                replicaReads.increment();
+                return connection;
+            } catch (SQLFeatureNotSupportedException ex) {
+                // Refused credentials, not an unavailable replica
+                throw ex;
+            } catch (SQLException ex) {
+                log.warn("Replica {} refused a connection: {}", replica.name, ex.getMessage());
+                replica.polledAt = null;
+            }
+        }
+        primaryReads.increment();
+        return connector.connect(primary);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static long position(DataSource dataSource, String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet position = statement.executeQuery(sql)) {
+            position.next();
+            return position.getLong(1);
+        }
+    }
+
+    @FunctionalInterface
+    interface Connector {
+        Connection connect(DataSource dataSource) throws SQLException;
+    }
+
+    private final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile long position;
+        private volatile Instant polledAt;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        boolean isCaughtUp(long required) {
+            Instant polled = polledAt;
+            return polled != null
+                    && polled.plus(staleAfter).isAfter(clock.instant())
+                    && position >= required;
+        }
+    }
+}
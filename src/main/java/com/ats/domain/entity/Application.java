@@ -2,6 +2,8 @@ package com.ats.domain.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -11,15 +13,21 @@ import java.util.List;
 /**
  * Application entity representing job applications.
  * Includes references to the owner user and maintains status history and notes.
- * Indexes are created on owner_id, status, company_name, and date_applied for
- * optimized queries.
+ * Indexes are created on (owner_id, date_applied, id) for keyset pagination,
+ * and on (owner_id, status, date_applied, id) for listings by status.
+ * Indexes JPA cannot describe are created by migrations: trigram GIN indexes
+ * for substring search on company_name and job_title (V7). The full-text
+ * search_vector column (V8) is maintained by database triggers and
+ * deliberately not mapped.
+ * Applications are kept in the second-level cache by id; the native
+ * statements that change them lock the cached entry first.
  */
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Application.CACHE_REGION)
 @Table(name = "applications", indexes = {
-        @Index(name = "idx_owner_id", columnList = "owner_id"),
-        @Index(name = "idx_status", columnList = "status"),
-        @Index(name = "idx_company_name", columnList = "company_name"),
-        @Index(name = "idx_date_applied", columnList = "date_applied")
+        @Index(name = "idx_applications_owner_date_id", columnList = "owner_id, date_applied DESC, id DESC"),
+        @Index(name = "idx_applications_owner_status_date_id",
+                columnList = "owner_id, status, date_applied DESC, id DESC")
 })
 @Getter
 @Setter
@@ -27,8 +35,12 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 public class Application {
+    /** Second-level cache region */
+    public static final String CACHE_REGION = "applications";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "applications_seq")
+    @SequenceGenerator(name = "applications_seq", sequenceName = "applications_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -60,6 +72,11 @@ public class Application {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    /** Incremented on every update; native updates must increment it themselves */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @OneToMany(mappedBy = "application", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private List<ApplicationStatusHistory> statusHistory = new ArrayList<>();
 
@@ -0,0 +1,42 @@
+package com.ats.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * Application Count entity holding the number of applications per owner and
+ * status. Rows are only changed through ApplicationCountRepository's atomic
+ * increments and by reconciliation; totals may be served to clients but are
+ * never the source of truth.
+ */
+@Entity
+@Table(name = "application_counts")
+@IdClass(ApplicationCount.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApplicationCount {
+    @Id
+    @Column(name = "owner_id")
+    private Long ownerId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ApplicationStatus status;
+
+    @Column(nullable = false)
+    private long total;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long ownerId;
+        private ApplicationStatus status;
+    }
+}
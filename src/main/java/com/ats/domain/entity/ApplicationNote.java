@@ -2,12 +2,15 @@ package com.ats.domain.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
 import java.time.LocalDateTime;
 
 /**
  * Application Note entity representing notes associated with job applications.
  * Includes references to the application and the user who created the note.
+ * Notes are deleted by the database together with their application.
  * Indexes are created on application_id and created_by for optimized queries.
  */
 @Entity
@@ -22,11 +25,13 @@ import java.time.LocalDateTime;
 @Builder
 public class ApplicationNote {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "application_notes_seq")
+    @SequenceGenerator(name = "application_notes_seq", sequenceName = "application_notes_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "application_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private Application application;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -1,5 +1,8 @@
 package com.ats.domain.entity;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * Application status enum defining the valid states in the job application lifecycle.
  * Workflow: APPLIED -> PHONE_SCREEN -> INTERVIEW -> OFFER -> ACCEPTED/REJECTED.
@@ -24,6 +27,17 @@ public enum ApplicationStatus {
         };
     }
 
+    /** Statuses that can transition to this one */
+    public Set<ApplicationStatus> predecessors() {
+        Set<ApplicationStatus> predecessors = EnumSet.noneOf(ApplicationStatus.class);
+        for (ApplicationStatus status : values()) {
+            if (status.canTransitionTo(this)) {
+                predecessors.add(status);
+            }
+        }
+        return predecessors;
+    }
+
     public static boolean isTerminalState(ApplicationStatus status) {
         return status == ACCEPTED || status == REJECTED;
     }
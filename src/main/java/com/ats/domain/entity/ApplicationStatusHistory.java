@@ -2,6 +2,8 @@ package com.ats.domain.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
 import java.time.LocalDateTime;
 
@@ -9,14 +11,16 @@ import java.time.LocalDateTime;
  * Application Status History entity representing the history of status changes
  * for job applications.
  * Includes references to the application and the user who made the change.
- * Indexes are created on application_id, created_by, and created_at for
- * optimized queries.
+ * History rows are deleted by the database together with their application.
+ * The table is partitioned by month of createdAt (see
+ * StatusHistoryPartitionService); queries bounded by createdAt only visit the
+ * matching partitions. Indexes are created on (application_id, created_at)
+ * and created_by.
  */
 @Entity
 @Table(name = "application_status_history", indexes = {
-        @Index(name = "idx_application_id", columnList = "application_id"),
-        @Index(name = "idx_created_by", columnList = "created_by"),
-        @Index(name = "idx_created_at", columnList = "created_at")
+        @Index(name = "idx_status_history_application_created", columnList = "application_id, created_at"),
+        @Index(name = "idx_status_history_created_by", columnList = "created_by")
 })
 @Getter
 @Setter
@@ -25,11 +29,13 @@ import java.time.LocalDateTime;
 @Builder
 public class ApplicationStatusHistory {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "application_status_history_seq")
+    @SequenceGenerator(name = "application_status_history_seq", sequenceName = "application_status_history_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "application_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private Application application;
 
     @Enumerated(EnumType.STRING)
@@ -1,7 +1,13 @@
 package com.ats.domain.entity;
 
+import com.ats.security.PrincipalCacheInvalidator;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -12,11 +18,20 @@ import java.util.*;
 /**
  * User entity representing a system user (Candidate or Recruiter).
  * Implements UserDetails for Spring Security integration.
+ * Users are kept in the second-level cache, by id and by username (the
+ * immutable natural id); see SecondLevelCacheConfiguration.
+ * Updates go through the entity, so that only the user's own cache entry is
+ * evicted (a JPQL bulk update would clear both regions), and write only the
+ * changed columns: another instance's cached copy may be stale.
  */
 @Entity
+@DynamicUpdate
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
+@NaturalIdCache(region = User.NATURAL_ID_CACHE_REGION)
+@EntityListeners(PrincipalCacheInvalidator.class)
 @Table(name = "users", indexes = {
-        @Index(name = "idx_email", columnList = "email", unique = true),
-        @Index(name = "idx_username", columnList = "username", unique = true)
+        @Index(name = User.EMAIL_CONSTRAINT, columnList = "email", unique = true),
+        @Index(name = User.USERNAME_CONSTRAINT, columnList = "username", unique = true)
 })
 @Getter
 @Setter
@@ -24,10 +39,20 @@ import java.util.*;
 @AllArgsConstructor
 @Builder
 public class User implements UserDetails {
+    /** Unique constraint names, used to translate duplicate-key errors */
+    public static final String EMAIL_CONSTRAINT = "idx_email";
+    public static final String USERNAME_CONSTRAINT = "idx_username";
+
+    /** Second-level cache regions */
+    public static final String CACHE_REGION = "users";
+    public static final String NATURAL_ID_CACHE_REGION = "users-by-username";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
+    @NaturalId
     @Column(nullable = false, unique = true, length = 100)
     private String username;
 
@@ -50,6 +75,9 @@ public class User implements UserDetails {
     @Column(nullable = false)
     private Boolean enabled = true;
 
+    /** Tokens issued up to this time are rejected ("revoke all tokens") */
+    private LocalDateTime tokensRevokedAt;
+
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -0,0 +1,54 @@
+package com.ats.domain.repository;
+
+import com.ats.domain.entity.ApplicationCount;
+import com.ats.domain.entity.ApplicationStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for the per-owner, per-status application counters.
+ */
+@Repository
+public interface ApplicationCountRepository extends JpaRepository<ApplicationCount, ApplicationCount.Key> {
+
+    /**
+     * Adds delta to a counter, creating it if needed. A single upsert, so
+     * concurrent transactions serialize on the counter row instead of losing
+     * updates.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO application_counts (owner_id, status, total) VALUES (:ownerId, :status, :delta) "
+            + "ON CONFLICT (owner_id, status) DO UPDATE SET total = application_counts.total + EXCLUDED.total",
+            nativeQuery = true)
+    void increment(@Param("ownerId") Long ownerId, @Param("status") String status, @Param("delta") long delta);
+
+    @Query("SELECT COALESCE(SUM(c.total), 0) FROM ApplicationCount c WHERE c.ownerId = :ownerId")
+    long sumByOwnerId(@Param("ownerId") Long ownerId);
+
+    @Query("SELECT COALESCE(SUM(c.total), 0) FROM ApplicationCount c WHERE c.ownerId = :ownerId AND c.status = :status")
+    long sumByOwnerIdAndStatus(@Param("ownerId") Long ownerId, @Param("status") ApplicationStatus status);
+
+    List<ApplicationCount> findByOwnerId(Long ownerId);
+
+    @Modifying
+    @Query(value = "UPDATE application_counts SET total = :total WHERE owner_id = :ownerId AND status = :status",
+            nativeQuery = true)
+    void setTotal(@Param("ownerId") Long ownerId, @Param("status") String status, @Param("total") long total);
+
+    /**
+     * Owners whose counters differ from the actual number of applications.
+     * Read without locks, so concurrent writes can cause false positives.
+     */
+    @Query(value = "SELECT DISTINCT COALESCE(a.owner_id, c.owner_id) FROM "
+            + "(SELECT owner_id, status, COUNT(*) AS total FROM applications GROUP BY owner_id, status) a "
+            + "FULL JOIN (SELECT * FROM application_counts WHERE total <> 0) c "
+            + "ON a.owner_id = c.owner_id AND a.status = c.status "
+            + "WHERE a.total IS DISTINCT FROM c.total",
+            nativeQuery = true)
+    List<Long> findOwnersWithDrift();
+}
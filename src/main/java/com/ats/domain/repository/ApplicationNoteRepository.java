@@ -4,6 +4,8 @@ import com.ats.domain.entity.Application;
 import com.ats.domain.entity.ApplicationNote;
 import com.ats.domain.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -16,6 +18,11 @@ public interface ApplicationNoteRepository extends JpaRepository<ApplicationNote
 
     List<ApplicationNote> findByApplicationOrderByCreatedAtDesc(Application application);
 
+    /** Notes of an application with their creators, without loading the application */
+    @Query("SELECT n FROM ApplicationNote n JOIN FETCH n.createdBy " +
+            "WHERE n.application.id = :applicationId ORDER BY n.createdAt DESC")
+    List<ApplicationNote> findWithCreatorByApplicationId(@Param("applicationId") Long applicationId);
+
     List<ApplicationNote> findByCreatedByOrderByCreatedAtDesc(User createdBy);
 
     long countByApplication(Application application);
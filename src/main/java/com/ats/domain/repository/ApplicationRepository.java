@@ -3,43 +3,106 @@ package com.ats.domain.repository;
 import com.ats.domain.entity.Application;
 import com.ats.domain.entity.ApplicationStatus;
 import com.ats.domain.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for managing Application entities.
  */
 @Repository
-public interface ApplicationRepository extends JpaRepository<Application, Long> {
+public interface ApplicationRepository extends JpaRepository<Application, Long>,
+                JpaSpecificationExecutor<Application>, ApplicationRepositoryCustom {
         Page<Application> findByOwner(User owner, Pageable pageable);
 
-        Page<Application> findByOwnerAndStatus(User owner, ApplicationStatus status, Pageable pageable);
+        Page<Application> findByOwnerId(Long ownerId, Pageable pageable);
+
+        /*
+         * Owner-scoped writes. Each touches the row only if it belongs to the
+         * owner, so an empty result means the application is missing or foreign
+         * and no separate ownership check is needed. Updates are in
+         * ApplicationRepositoryCustom.
+         * They bypass Hibernate: lock the cached application first
+         * (lockCachedApplication).
+         */
 
-        Page<Application> findByOwnerAndCompanyNameIgnoreCase(User owner, String companyName, Pageable pageable);
+        /**
+         * Status history and notes are removed by ON DELETE CASCADE.
+         *
+         * @return the status the application had, for the per-owner counters
+         */
+        @Query(value = "DELETE FROM applications WHERE id = :id AND owner_id = :ownerId RETURNING status",
+                        nativeQuery = true)
+        Optional<String> deleteByIdAndOwnerId(@Param("id") Long id, @Param("ownerId") Long ownerId);
+
+        /**
+         * The owner's applications matching a web-search style query (quoted
+         * phrases, OR, -excluded) against the search_vector maintained by
+         * migration V8, best match first. The pageable must be unsorted; the
+         * order is by rank, then newest id.
+         */
+        @Query(value = "SELECT a.* FROM applications a, websearch_to_tsquery('english', :query) q " +
+                        "WHERE a.owner_id = :ownerId AND a.search_vector @@ q " +
+                        "ORDER BY ts_rank_cd(a.search_vector, q) DESC, a.id DESC",
+                        countQuery = "SELECT count(*) FROM applications a " +
+                                        "WHERE a.owner_id = :ownerId " +
+                                        "AND a.search_vector @@ websearch_to_tsquery('english', :query)",
+                        nativeQuery = true)
+        Page<Application> searchText(
+                        @Param("ownerId") Long ownerId,
+                        @Param("query") String query,
+                        Pageable pageable);
 
-        List<Application> findByStatus(ApplicationStatus status);
+        /** Page content only; totals come from ApplicationCountRepository */
+        List<Application> findAllByOwnerId(Long ownerId, Pageable pageable);
+
+        List<Application> findAllByOwnerIdAndStatus(Long ownerId, ApplicationStatus status, Pageable pageable);
+
+        @Query("SELECT a.status AS status, COUNT(a) AS total FROM Application a " +
+                        "WHERE a.owner.id = :ownerId GROUP BY a.status")
+        List<StatusTotal> countByOwnerIdGroupByStatus(@Param("ownerId") Long ownerId);
+
+        Page<Application> findByOwnerAndStatus(User owner, ApplicationStatus status, Pageable pageable);
 
         long countByOwnerAndStatus(User owner, ApplicationStatus status);
 
-        @Query("SELECT a FROM Application a WHERE a.owner = :owner " +
-                        "AND (:status IS NULL OR a.status = :status) " +
-                        "AND (COALESCE(:companyName, '') = '' OR LOWER(a.companyName) LIKE LOWER(CONCAT('%', :companyName, '%')))")
-        Page<Application> searchApplications(
-                        @Param("owner") User owner,
-                        @Param("status") ApplicationStatus status,
-                        @Param("companyName") String companyName,
-                        Pageable pageable);
+        /** Order of keyset pages; matches the (dateApplied, id) indexes */
+        Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("dateApplied"), Sort.Order.desc("id"));
+
+        /**
+         * Keyset page, newest first. The filter is built from
+         * ApplicationSpecifications: the search filters that are set, and for
+         * every page but the first, seekAfter the previous page's last row.
+         * Served by idx_applications_owner_date_id, or
+         * idx_applications_owner_status_date_id with a status, without an
+         * offset scan or count query. Callers ask for one extra row to detect a
+         * next page.
+         */
+        default List<Application> findPage(Specification<Application> filter, Limit limit) {
+                return findBy(filter, query -> query.sortBy(NEWEST_FIRST).limit(limit.max()).all());
+        }
 
         @Query("SELECT a FROM Application a WHERE a.owner = :owner AND a.dateApplied BETWEEN :startDate AND :endDate")
         List<Application> findApplicationsInDateRange(
                         @Param("owner") User owner,
                         @Param("startDate") LocalDate startDate,
                         @Param("endDate") LocalDate endDate);
+
+        /** Projection of the number of applications in one status */
+        interface StatusTotal {
+                ApplicationStatus getStatus();
+
+                long getTotal();
+        }
 }
@@ -0,0 +1,116 @@
+package com.ats.domain.repository;
+
+import com.ats.domain.entity.Application;
+import com.ats.domain.entity.ApplicationNote;
+import com.ats.domain.entity.ApplicationStatus;
+import com.ats.domain.entity.ApplicationStatusHistory;
+import jakarta.persistence.Tuple;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Queries of ApplicationRepository that cannot be expressed as query methods:
+ * a select list only known at runtime, an owner-scoped update returning the
+ * row, a multi-statement status change, the status history and notes of an
+ * application in one statement, and second-level cache handling for
+ * read-your-writes and around native writes.
+ */
+public interface ApplicationRepositoryCustom {
+
+    /**
+     * Selects only the given Application attributes of a page of applications
+     * matching the filter. Rows are returned as tuples aliased by attribute
+     * name; no entity is loaded or managed.
+     *
+     * @param filter     e.g. built from ApplicationSpecifications
+     * @param attributes Application attribute names, e.g. "id", "companyName"
+     */
+    List<Tuple> findAttributes(
+            Specification<Application> filter,
+            List<String> attributes,
+            Pageable pageable);
+
+    /**
+     * Updates the editable fields of the owner's application in a single
+     * statement and increments its version.
+     *
+     * @return the updated application, not managed; empty if the application
+     *         does not exist or belongs to another user
+     */
+    Optional<Application> updateByIdAndOwnerId(
+            Long id,
+            Long ownerId,
+            String companyName,
+            String jobTitle,
+            LocalDate dateApplied,
+            String jobUrl,
+            String notes,
+            LocalDateTime updatedAt);
+
+    /**
+     * Changes the status of the owner's application if its current status is
+     * one of fromStatuses, and records the change in the status history, in a
+     * single statement. The row is locked first, so of concurrent transitions
+     * from the same status exactly one succeeds.
+     *
+     * @return empty if the application does not exist or belongs to another user
+     */
+    Optional<StatusTransition> transitionStatus(
+            Long id,
+            Long ownerId,
+            Set<ApplicationStatus> fromStatuses,
+            ApplicationStatus newStatus,
+            String reason,
+            LocalDateTime changedAt);
+
+    /**
+     * The application by id, usually from the second-level cache. A request
+     * that must read its own writes (ReadYourWrites.requiredPosition() is set)
+     * reads the row from the database instead and refreshes the cached copy,
+     * since that copy may predate a write made through another instance.
+     */
+    Optional<Application> findCurrentById(Long id);
+
+    /**
+     * The application's status history and notes, each with its creator and
+     * newest first, in a single statement. The history is bounded by the
+     * application's lifetime as in ApplicationStatusHistoryRepository, so only
+     * the partitions of those months are read. The entities are built from the
+     * rows and are not managed.
+     */
+    Activity findActivity(Application application);
+
+    /**
+     * Locks the application's second-level cache entry until the current
+     * transaction completes, as Hibernate does for its own updates. Call it
+     * before changing or deleting the row with SQL that bypasses Hibernate
+     * (updateByIdAndOwnerId, deleteByIdAndOwnerId, transitionStatus): while
+     * locked, the entry is neither served nor refilled, so no transaction can
+     * cache the row as it was before the change.
+     */
+    void lockCachedApplication(Long id);
+
+    /** Result of findActivity */
+    record Activity(List<ApplicationStatusHistory> statusHistory, List<ApplicationNote> notes) {
+    }
+
+    /**
+     * Result of transitionStatus.
+     *
+     * @param previousStatus status of the application when the statement ran
+     * @param application    the updated application, or null if previousStatus
+     *                       was not one of fromStatuses and nothing changed
+     */
+    record StatusTransition(ApplicationStatus previousStatus, Application application) {
+
+        public boolean applied() {
+            return application != null;
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package com.ats.domain.repository;
+
+import com.ats.datasource.ReadYourWrites;
+import com.ats.domain.entity.Application;
+import com.ats.domain.entity.ApplicationNote;
+import com.ats.domain.entity.ApplicationStatus;
+import com.ats.domain.entity.ApplicationStatusHistory;
+import com.ats.domain.entity.User;
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.jpa.SpecHints;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of ApplicationRepositoryCustom, with the Criteria API and,
+ * for statements JPQL cannot express, plain SQL.
+ */
+@RequiredArgsConstructor
+public class ApplicationRepositoryCustomImpl implements ApplicationRepositoryCustom {
+    private static final String UPDATE_APPLICATION = """
+            UPDATE applications
+            SET company_name = :companyName, job_title = :jobTitle, date_applied = :dateApplied,
+                job_url = :jobUrl, notes = :notes, updated_at = :updatedAt, version = version + 1
+            WHERE id = :id AND owner_id = :ownerId
+            RETURNING *
+            """;
+
+    /*
+     * locked:  the owner's row, locked; waits for and then sees any concurrent
+     *          transition of the same application
+     * updated: applies the change only if the locked status is allowed
+     * history: audit row of the applied change (id from the column default)
+     * The outer select tells a missing row from a refused transition.
+     */
+    private static final String TRANSITION_STATUS = """
+            WITH locked AS (
+                SELECT id, status FROM applications
+                WHERE id = :id AND owner_id = :ownerId
+                FOR NO KEY UPDATE
+            ), updated AS (
+                UPDATE applications a
+                SET status = :newStatus, updated_at = :changedAt, version = a.version + 1
+                FROM locked
+                WHERE a.id = locked.id AND locked.status = ANY (string_to_array(:fromStatuses, ','))
+                RETURNING a.*
+            ), history AS (
+                INSERT INTO application_status_history
+                    (application_id, old_status, new_status, created_by, reason, created_at)
+                SELECT locked.id, locked.status, :newStatus, :ownerId, :reason, :changedAt
+                FROM locked JOIN updated ON updated.id = locked.id
+            )
+            SELECT locked.status AS previous_status, updated.*
+            FROM locked LEFT JOIN updated ON updated.id = locked.id
+            """;
+
+    /*
+     * One row per history entry or note, told apart by kind; the columns the
+     * other kind lacks are null.
+     */
+    private static final String FIND_ACTIVITY = """
+            SELECT 'HISTORY' AS kind, h.id, h.old_status, h.new_status, h.reason, NULL AS content,
+                   h.created_at, NULL AS updated_at, u.id AS user_id, u.first_name, u.last_name
+            FROM application_status_history h JOIN users u ON u.id = h.created_by
+            WHERE h.application_id = :id AND h.created_at BETWEEN :since AND :until
+            UNION ALL
+            SELECT 'NOTE', n.id, NULL, NULL, NULL, n.content,
+                   n.created_at, n.updated_at, u.id, u.first_name, u.last_name
+            FROM application_notes n JOIN users u ON u.id = n.created_by
+            WHERE n.application_id = :id
+            ORDER BY created_at DESC
+            """;
+
+    private final EntityManager entityManager;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    /** Only present with replica routing */
+    private final ObjectProvider<ReadYourWrites> readYourWrites;
+
+    @Override
+    public List<Tuple> findAttributes(
+            Specification<Application> filter,
+            List<String> attributes,
+            Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Application> application = query.from(Application.class);
+
+        List<Selection<?>> selections = new ArrayList<>(attributes.size());
+        for (String attribute : attributes) {
+            selections.add(application.get(attribute).alias(attribute));
+        }
+        query.multiselect(selections);
+
+        Predicate predicate = filter.toPredicate(application, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), application, cb));
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        return typedQuery.getResultList();
+    }
+
+    @Override
+    public Optional<Application> findCurrentById(Long id) {
+        ReadYourWrites tracking = readYourWrites.getIfAvailable();
+        if (tracking == null || tracking.requiredPosition() == 0) {
+            return Optional.ofNullable(entityManager.find(Application.class, id));
+        }
+        return Optional.ofNullable(entityManager.find(Application.class, id, Map.of(
+                SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, CacheRetrieveMode.BYPASS,
+                SpecHints.HINT_SPEC_CACHE_STORE_MODE, CacheStoreMode.REFRESH)));
+    }
+
+    @Override
+    public Activity findActivity(Application application) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", application.getId())
+                .addValue("since", application.getCreatedAt().minus(ApplicationStatusHistoryRepository.CLOCK_SKEW))
+                .addValue("until", LocalDateTime.now().plus(ApplicationStatusHistoryRepository.CLOCK_SKEW));
+        List<ApplicationStatusHistory> statusHistory = new ArrayList<>();
+        List<ApplicationNote> notes = new ArrayList<>();
+        jdbcTemplate.query(FIND_ACTIVITY, params, rs -> {
+            User creator = User.builder()
+                    .id(rs.getLong("user_id"))
+                    .firstName(rs.getString("first_name"))
+                    .lastName(rs.getString("last_name"))
+                    .build();
+            if ("HISTORY".equals(rs.getString("kind"))) {
+                statusHistory.add(ApplicationStatusHistory.builder()
+                        .id(rs.getLong("id"))
+                        .application(application)
+                        .oldStatus(ApplicationStatus.valueOf(rs.getString("old_status")))
+                        .newStatus(ApplicationStatus.valueOf(rs.getString("new_status")))
+                        .reason(rs.getString("reason"))
+                        .createdBy(creator)
+                        .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                        .build());
+            } else {
+                notes.add(ApplicationNote.builder()
+                        .id(rs.getLong("id"))
+                        .application(application)
+                        .content(rs.getString("content"))
+                        .createdBy(creator)
+                        .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                        .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+                        .build());
+            }
+        });
+        return new Activity(statusHistory, notes);
+    }
+
+    @Override
+    public void lockCachedApplication(Long id) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(Application.class);
+        if (!persister.canWriteToCache()) {
+            return;
+        }
+        EntityDataAccess cache = persister.getCacheAccessStrategy();
+        Object key = cache.generateCacheKey(id, persister, session.getFactory(), session.getTenantIdentifier());
+        SoftLock lock = cache.lockItem(session, key, null);
+        session.getActionQueue().registerProcess(
+                (AfterTransactionCompletionProcess) (success, completed) -> cache.unlockItem(completed, key, lock));
+    }
+
+    @Override
+    public Optional<Application> updateByIdAndOwnerId(
+            Long id,
+            Long ownerId,
+            String companyName,
+            String jobTitle,
+            LocalDate dateApplied,
+            String jobUrl,
+            String notes,
+            LocalDateTime updatedAt) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("ownerId", ownerId)
+                .addValue("companyName", companyName)
+                .addValue("jobTitle", jobTitle)
+                .addValue("dateApplied", dateApplied)
+                .addValue("jobUrl", jobUrl)
+                .addValue("notes", notes)
+                .addValue("updatedAt", updatedAt);
+        return jdbcTemplate.query(UPDATE_APPLICATION, params, (rs, rowNum) -> application(rs))
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public Optional<StatusTransition> transitionStatus(
+            Long id,
+            Long ownerId,
+            Set<ApplicationStatus> fromStatuses,
+            ApplicationStatus newStatus,
+            String reason,
+            LocalDateTime changedAt) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("ownerId", ownerId)
+                .addValue("fromStatuses", fromStatuses.stream().map(Enum::name).collect(Collectors.joining(",")))
+                .addValue("newStatus", newStatus.name())
+                .addValue("reason", reason)
+                .addValue("changedAt", changedAt);
+        return jdbcTemplate.query(TRANSITION_STATUS, params, (rs, rowNum) -> new StatusTransition(
+                ApplicationStatus.valueOf(rs.getString("previous_status")),
+                rs.getObject("id") == null ? null : application(rs)))
+                .stream()
+                .findFirst();
+    }
+
+    /** An application from a row of the applications table; the owner is not set */
+    private static Application application(ResultSet rs) throws SQLException {
+        return Application.builder()
+                .id(rs.getLong("id"))
+                .companyName(rs.getString("company_name"))
+                .jobTitle(rs.getString("job_title"))
+                .dateApplied(rs.getObject("date_applied", LocalDate.class))
+                .status(ApplicationStatus.valueOf(rs.getString("status")))
+                .jobUrl(rs.getString("job_url"))
+                .notes(rs.getString("notes"))
+                .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+                .version(rs.getLong("version"))
+                .build();
+    }
+}
@@ -0,0 +1,92 @@
+package com.ats.domain.repository;
+
+import com.ats.domain.entity.Application;
+import com.ats.domain.entity.ApplicationStatus;
+import jakarta.persistence.criteria.Path;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+
+/**
+ * Filters of the application search. Combined with Specification.and, a null
+ * filter is left out, so each query only has the predicates that are set
+ * instead of "(:param IS NULL OR ...)" conditions the planner cannot index.
+ * Substring filters compare lower(column) with a lowercased pattern, matching
+ * the trigram indexes idx_applications_company_name_trgm and
+ * idx_applications_job_title_trgm.
+ */
+public final class ApplicationSpecifications {
+
+    /** Escape character of the patterns built by containsPattern */
+    public static final char LIKE_ESCAPE = '\\';
+
+    private ApplicationSpecifications() {
+    }
+
+    public static Specification<Application> ownedBy(Long ownerId) {
+        return (root, query, cb) -> cb.equal(root.get("owner").get("id"), ownerId);
+    }
+
+    /** @return null (no filter) if status is null */
+    public static Specification<Application> hasStatus(ApplicationStatus status) {
+        if (status == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    /** Case-insensitive substring filter; null (no filter) if text is blank */
+    public static Specification<Application> companyNameContains(String text) {
+        return contains("companyName", text);
+    }
+
+    /** Case-insensitive substring filter; null (no filter) if text is blank */
+    public static Specification<Application> jobTitleContains(String text) {
+        return contains("jobTitle", text);
+    }
+
+    /**
+     * Keyset seek: the rows after (dateApplied, id) in newest-first order, i.e.
+     * applied earlier, or on the same day with a lower id. The redundant
+     * dateApplied bound is an index condition of the (owner, [status,]
+     * dateApplied, id) indexes; the rest only filters the boundary day.
+     *
+     * @return null (first page) if dateApplied is null
+     */
+    public static Specification<Application> seekAfter(LocalDate dateApplied, Long id) {
+        if (dateApplied == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            Path<LocalDate> applied = root.get("dateApplied");
+            return cb.and(
+                    cb.lessThanOrEqualTo(applied, dateApplied),
+                    cb.or(cb.lessThan(applied, dateApplied), cb.lessThan(root.get("id"), id)));
+        };
+    }
+
+    /**
+     * LIKE pattern matching lowercased values that contain text, with the
+     * wildcards % and _ in text escaped by LIKE_ESCAPE.
+     *
+     * @return null if text is null or blank
+     */
+    public static String containsPattern(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        String escaped = text.trim().toLowerCase()
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    private static Specification<Application> contains(String attribute, String text) {
+        String pattern = containsPattern(text);
+        if (pattern == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.like(cb.lower(root.get(attribute)), pattern, LIKE_ESCAPE);
+    }
+}
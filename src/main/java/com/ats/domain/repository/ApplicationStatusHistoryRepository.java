@@ -4,18 +4,52 @@ import com.ats.domain.entity.Application;
 import com.ats.domain.entity.ApplicationStatusHistory;
 import com.ats.domain.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 
 /**
  * Repository interface for managing ApplicationStatusHistory entities.
+ * The table is partitioned by month of createdAt. Lookups by application are
+ * bounded by the application's lifetime, from its creation to now, so only
+ * the partitions of those months are read; queries without a createdAt bound
+ * visit every partition.
  */
 @Repository
 public interface ApplicationStatusHistoryRepository extends JpaRepository<ApplicationStatusHistory, Long> {
 
-    List<ApplicationStatusHistory> findByApplicationOrderByCreatedAtDesc(Application application);
+    /**
+     * Margin around the application's lifetime: changes and applications are
+     * stamped by the clock of the instance that wrote them.
+     */
+    Duration CLOCK_SKEW = Duration.ofDays(1);
+
+    default List<ApplicationStatusHistory> findByApplicationOrderByCreatedAtDesc(Application application) {
+        return findByApplicationAndCreatedAtBetweenOrderByCreatedAtDesc(
+                application,
+                application.getCreatedAt().minus(CLOCK_SKEW),
+                LocalDateTime.now().plus(CLOCK_SKEW));
+    }
+
+    /** History of the application with the users who made the changes, newest first */
+    default List<ApplicationStatusHistory> findWithCreatorByApplication(Application application) {
+        return findWithCreatorByApplicationId(
+                application.getId(),
+                application.getCreatedAt().minus(CLOCK_SKEW),
+                LocalDateTime.now().plus(CLOCK_SKEW));
+    }
+
+    @Query("SELECT h FROM ApplicationStatusHistory h JOIN FETCH h.createdBy " +
+            "WHERE h.application.id = :applicationId AND h.createdAt BETWEEN :since AND :until " +
+            "ORDER BY h.createdAt DESC")
+    List<ApplicationStatusHistory> findWithCreatorByApplicationId(
+            @Param("applicationId") Long applicationId,
+            @Param("since") LocalDateTime since,
+            @Param("until") LocalDateTime until);
 
     List<ApplicationStatusHistory> findByCreatedByOrderByCreatedAtDesc(User createdBy);
 
@@ -23,4 +57,4 @@ public interface ApplicationStatusHistoryRepository extends JpaRepository<Applic
             Application application,
             LocalDateTime startTime,
             LocalDateTime endTime);
-}
\ No newline at end of file
+}
@@ -3,18 +3,21 @@ package com.ats.domain.repository;
 import com.ats.domain.entity.User;
 import com.ats.domain.entity.UserRole;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * Repository interface for managing User entities.
+ * Username lookups are in UserRepositoryCustom, to use the natural-id cache.
  */
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
-    Optional<User> findByUsername(String username);
-
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
     Optional<User> findByEmail(String email);
 
     List<User> findByRole(UserRole role);
@@ -22,4 +25,21 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
 
     boolean existsByUsername(String username);
+
+    @Query("SELECT u.username FROM User u WHERE u.username IN :usernames")
+    List<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("SELECT u.username AS username, u.tokensRevokedAt AS tokensRevokedAt "
+            + "FROM User u WHERE u.tokensRevokedAt > :since")
+    List<TokenCutoff> findTokenCutoffsSince(@Param("since") LocalDateTime since);
+
+    /** Projection of a user's "revoke all tokens" cutoff */
+    interface TokenCutoff {
+        String getUsername();
+
+        LocalDateTime getTokensRevokedAt();
+    }
 }
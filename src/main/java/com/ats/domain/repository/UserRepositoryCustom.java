@@ -0,0 +1,29 @@
+package com.ats.domain.repository;
+
+import com.ats.domain.entity.User;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Lookups of UserRepository that go through the natural-id (username) cache
+ * instead of always querying.
+ */
+public interface UserRepositoryCustom {
+
+    /**
+     * Finds a user by username, resolving it from the second-level cache when
+     * possible; otherwise one query, whose result is cached.
+     */
+    @Transactional(readOnly = true)
+    Optional<User> findByUsername(String username);
+
+    /**
+     * Finds a user by username or email, preferring the username match when
+     * the value matches two different users. A cached username needs no
+     * query; anything else takes a single indexed lookup matching either
+     * column (both are unique, so at most two rows come back).
+     */
+    @Transactional(readOnly = true)
+    Optional<User> findByUsernameOrEmail(String login);
+}
@@ -0,0 +1,54 @@
+package com.ats.domain.repository;
+
+import com.ats.domain.entity.User;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Implementation of UserRepositoryCustom on the Hibernate session.
+ */
+@RequiredArgsConstructor
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Optional<User> findByUsername(String username) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(username);
+    }
+
+    @Override
+    public Optional<User> findByUsernameOrEmail(String login) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(User.class);
+        // Only a cache hit is used here: on a miss, asking Hibernate for the
+        // username would cost a query of its own before the email one
+        Object cachedId = session.getPersistenceContextInternal()
+                .getNaturalIdResolutions()
+                .findCachedIdByNaturalId(login, persister);
+        if (cachedId instanceof Long id) {
+            User user = session.find(User.class, id);
+            if (user != null) {
+                return Optional.of(user);
+            }
+        }
+
+        // Users loaded here are put in the cache, natural id included
+        List<User> users = entityManager
+                .createQuery("SELECT u FROM User u WHERE u.username = :login OR u.email = :login", User.class)
+                .setParameter("login", login)
+                .getResultList();
+        return users.stream()
+                .filter(user -> login.equals(user.getUsername()))
+                .findFirst()
+                .or(() -> users.stream().findFirst());
+    }
+}
@@ -0,0 +1,13 @@
+package com.ats.exception;
+
+/**
+ * Thrown when a requested resource does not exist or is not visible to the
+ * current user, so callers cannot probe for ids they do not own.
+ * Mapped to 404 Not Found.
+ */
+public class ResourceNotFoundException extends RuntimeException {
+
+    public ResourceNotFoundException(String message) {
+        super(message);
+    }
+}
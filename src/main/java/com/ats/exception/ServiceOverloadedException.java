@@ -0,0 +1,19 @@
+package com.ats.exception;
+
+import lombok.Getter;
+
+/**
+ * Thrown when a bounded resource (e.g. the password hashing bulkhead) is
+ * saturated and the request is rejected instead of being queued.
+ * Mapped to 503 Service Unavailable with a Retry-After header.
+ */
+@Getter
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,114 @@
+package com.ats.security;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * BCrypt encoder whose work factor is calibrated to the hardware it runs on.
+ * ------------
+ * calibrate() measures the hash time per work factor at startup and picks the
+ * factor closest to a latency target (e.g. 80 ms), so login capacity per node
+ * is predictable regardless of the machine.
+ * ------------
+ * upgradeEncoding() reports every hash whose work factor differs from the
+ * calibrated one - both weaker and stronger - so Spring Security re-encodes it
+ * on the next successful login (see CustomUserDetailsService.updatePassword).
+ */
+@Slf4j
+@Getter
+public class AdaptiveBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+    private static final int SAMPLES_PER_STRENGTH = 3;
+
+    private final int strength;
+
+    public AdaptiveBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    /**
+     * Measures BCrypt from minStrength upwards and returns an encoder using the
+     * work factor whose hash time is closest to the target.
+     * Each extra work factor doubles the cost, so measuring stops once a hash
+     * takes more than twice the target.
+     */
+    public static AdaptiveBCryptPasswordEncoder calibrate(Duration target, int minStrength, int maxStrength) {
+        Map<Integer, Duration> samples = new TreeMap<>();
+        BCrypt.hashpw(CALIBRATION_PASSWORD, BCrypt.gensalt(minStrength)); // warm-up
+
+        for (int strength = minStrength; strength <= maxStrength; strength++) {
+            Duration elapsed = measure(strength);
+            samples.put(strength, elapsed);
+            if (elapsed.compareTo(target.multipliedBy(2)) > 0) {
+                break;
+            }
+        }
+
+        int strength = closestStrength(samples, target);
+        log.info("BCrypt work factor calibrated to {} ({} per hash, target {})",
+                strength, samples.get(strength), target);
+        return new AdaptiveBCryptPasswordEncoder(strength);
+    }
+
+    /**
+     * Picks the work factor whose measured hash time is closest to the target.
+     */
+    static int closestStrength(Map<Integer, Duration> samples, Duration target) {
+        int best = -1;
+        long bestDistance = Long.MAX_VALUE;
+        for (Map.Entry<Integer, Duration> sample : samples.entrySet()) {
+            long distance = Math.abs(sample.getValue().toNanos() - target.toNanos());
+            if (distance < bestDistance) {
+                best = sample.getKey();
+                bestDistance = distance;
+            }
+        }
+        if (best < 0) {
+            throw new IllegalArgumentException("No calibration samples");
+        }
+        return best;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        Integer encodedStrength = strengthOf(encodedPassword);
+        return encodedStrength != null && encodedStrength != strength;
+    }
+
+    /**
+     * Extracts the work factor from a hash such as "$2a$10$...", or null if
+     * the value is not a BCrypt hash.
+     */
+    static Integer strengthOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7
+                || encodedPassword.charAt(0) != '$' || encodedPassword.charAt(3) != '$') {
+            return null;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6));
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    /** Median of a few hashes, to smooth out scheduling noise */
+    private static Duration measure(int strength) {
+        long[] timings = new long[SAMPLES_PER_STRENGTH];
+        for (int i = 0; i < SAMPLES_PER_STRENGTH; i++) {
+            long start = System.nanoTime();
+            BCrypt.hashpw(CALIBRATION_PASSWORD, BCrypt.gensalt(strength));
+            timings[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(timings);
+        return Duration.ofNanos(timings[SAMPLES_PER_STRENGTH / 2]);
+    }
+}
@@ -0,0 +1,64 @@
+package com.ats.security;
+
+import com.ats.domain.entity.User;
+import com.ats.domain.entity.UserRole;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable principal of an authenticated request.
+ * Carries only what request handling needs (id, username, role, enabled flag),
+ * so it can be built either from the User entity or directly from JWT claims
+ * without touching the database.
+ */
+public record AuthenticatedUser(Long id, String username, UserRole role, boolean enabled) implements UserDetails {
+
+    private static final Map<UserRole, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(UserRole.class);
+
+    static {
+        for (UserRole role : UserRole.values()) {
+            AUTHORITIES.put(role, List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+        }
+    }
+
+    public static AuthenticatedUser from(User user) {
+        return new AuthenticatedUser(user.getId(), user.getUsername(), user.getRole(), user.isEnabled());
+    }
+
+    public static AuthenticatedUser from(UserDetails userDetails) {
+        if (userDetails instanceof AuthenticatedUser principal) {
+            return principal;
+        }
+        if (userDetails instanceof User user) {
+            return from(user);
+        }
+        throw new IllegalArgumentException("Unsupported principal type: " + userDetails.getClass().getName());
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return AUTHORITIES.get(role);
+    }
+
+    /** Credentials are never part of the request principal */
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+}
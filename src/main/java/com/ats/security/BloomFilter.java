@@ -0,0 +1,76 @@
+package com.ats.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Minimal Bloom filter over strings, used as the front of the token denylist.
+ * ------------
+ * mightContain() never returns false for a key that was added, and returns
+ * true for an absent key with roughly the configured false positive rate.
+ * A "no" answer therefore proves a token was not revoked without touching
+ * the exact set.
+ * ------------
+ * Lookups are lock-free and allocation-free: the k bit positions are derived
+ * from two hashes of the key (String.hashCode and FNV-1a) by double hashing.
+ * Bits are never cleared; the filter is rebuilt to drop removed keys.
+ */
+public final class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        int expected = Math.max(1, expectedInsertions);
+        long bits = (long) Math.ceil(-expected * Math.log(falsePositiveRate) / (LN2 * LN2));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (bits + 63) / 64));
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expected * LN2));
+    }
+
+    public void put(String key) {
+        int hash1 = key.hashCode();
+        int hash2 = fnv1a(key);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = index(hash1, hash2, i);
+            words.getAndAccumulate((int) (bit >>> 6), 1L << bit, (current, mask) -> current | mask);
+        }
+    }
+
+    public boolean mightContain(String key) {
+        int hash1 = key.hashCode();
+        int hash2 = fnv1a(key);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = index(hash1, hash2, i);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long bitCount() {
+        return bitCount;
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+
+    private long index(int hash1, int hash2, int i) {
+        long combined = (hash1 & 0xFFFFFFFFL) + (long) i * (hash2 & 0xFFFFFFFFL);
+        return combined % bitCount;
+    }
+
+    private static int fnv1a(String key) {
+        int hash = 0x811C9DC5;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x01000193;
+        }
+        return hash;
+    }
+}
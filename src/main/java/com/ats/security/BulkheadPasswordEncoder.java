@@ -0,0 +1,181 @@
+package com.ats.security;
+
+import com.ats.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * PasswordEncoder decorator that runs hashing and verification on a dedicated,
+ * bounded executor (bulkhead) instead of the calling Tomcat thread.
+ * ------------
+ * Password hashing is deliberately CPU-expensive. Without a bulkhead a login
+ * spike (or credential stuffing) occupies every CPU and starves all other
+ * endpoints. With it:
+ * - At most N hashes run concurrently (executor threads)
+ * - At most M requests wait (executor queue); further requests fail fast
+ *   with ServiceOverloadedException (503) instead of piling up
+ * - Callers waiting longer than the timeout give up
+ * ------------
+ * Metrics:
+ * - password.hashing (timer, tag operation=encode|matches): hash latency
+ * - password.hashing.rejected (counter): fast-failed requests
+ * - executor.* (tag name=passwordHashing): queue depth, active threads
+ * ------------
+ * encodeAll() hashes bulk batches in parallel without monopolising the queue.
+ */
+@Slf4j
+public class BulkheadPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public BulkheadPasswordEncoder(
+            PasswordEncoder delegate,
+            int threads,
+            int queueCapacity,
+            Duration timeout,
+            MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeout = timeout;
+        this.encodeTimer = Timer.builder("password.hashing")
+                .description("Time spent hashing or verifying a password")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hashing")
+                .description("Time spent hashing or verifying a password")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hashing.rejected")
+                .description("Password hashing requests rejected because the bulkhead was saturated")
+                .register(meterRegistry);
+        new ExecutorServiceMetrics(executor, "passwordHashing", Collections.emptyList()).bindTo(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword), encodeTimer);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword), matchesTimer);
+    }
+
+    /**
+     * Hashes a batch of passwords in parallel on the bulkhead threads.
+     * At most one task per thread is in flight for the batch, so bulk
+     * provisioning never fills the shared queue and logins keep their slots.
+     */
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        Semaphore window = new Semaphore(executor.getMaximumPoolSize());
+        List<Future<String>> futures = new ArrayList<>(rawPasswords.size());
+        try {
+            for (CharSequence rawPassword : rawPasswords) {
+                window.acquire();
+                futures.add(submit(() -> {
+                    try {
+                        return encodeTimer.recordCallable(() -> delegate.encode(rawPassword));
+                    } finally {
+                        window.release();
+                    }
+                }, window));
+            }
+            List<String> encoded = new ArrayList<>(futures.size());
+            for (Future<String> future : futures) {
+                encoded.add(await(future));
+            }
+            return encoded;
+        } catch (InterruptedException ex) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", ex);
+        } catch (RuntimeException ex) {
+            futures.forEach(future -> future.cancel(true));
+            throw ex;
+        }
+    }
+
+    /** Cheap metadata check, runs on the calling thread */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private <T> T execute(Callable<T> task, Timer timer) {
+        return await(submit(() -> timer.recordCallable(task), null));
+    }
+
+    private <T> Future<T> submit(Callable<T> task, Semaphore window) {
+        try {
+            return executor.submit(task);
+        } catch (RejectedExecutionException ex) {
+            if (window != null) {
+                window.release();
+            }
+            rejectedCounter.increment();
+            log.warn("Password hashing rejected: {} queued, {} active",
+                    executor.getQueue().size(), executor.getActiveCount());
+            throw overloaded();
+        }
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw overloaded();
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", ex.getCause());
+        }
+    }
+
+    private static ServiceOverloadedException overloaded() {
+        return new ServiceOverloadedException("Authentication is temporarily overloaded, please retry", 1);
+    }
+}
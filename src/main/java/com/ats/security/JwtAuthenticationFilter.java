@@ -1,5 +1,6 @@
 package com.ats.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,25 +10,39 @@ import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 /**
  * Filter for handling JWT authentication.
  * It extracts the JWT from the request, validates it,
  * and sets the authentication in the security context.
+ * ------------
+ * Principal resolution:
+ * - Default: the user is loaded through the PrincipalCache (database on a miss)
+ * - Stateless mode (app.jwt.stateless-principal=true): the principal is built
+ *   from the token claims with zero database access. Tokens issued without
+ *   principal claims fall back to the lookup. Role or enabled changes take
+ *   effect when a new token is issued.
+ * ------------
+ * Revoked tokens (see TokenRevocationService) are ignored. The verified claims
+ * are exposed to controllers as the CLAIMS_ATTRIBUTE request attribute.
  */
 @Slf4j
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    /** Request attribute holding the verified claims of the current token */
+    public static final String CLAIMS_ATTRIBUTE = "com.ats.security.JwtAuthenticationFilter.claims";
+
     private final JwtTokenProvider tokenProvider;
-    private final UserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationService revocationService;
+    private final boolean statelessPrincipal;
 
     /**
      * Filter internal method to validate JWT tokens.
@@ -39,19 +54,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             @NonNull FilterChain filterChain) throws ServletException, IOException {
         try {
             String jwt = getJwtFromRequest(request);
+            Optional<Claims> claims = StringUtils.hasText(jwt)
+                    ? tokenProvider.getVerifiedClaims(jwt)
+                    : Optional.empty();
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                String username = tokenProvider.getUsernameFromToken(jwt);
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            if (claims.isPresent() && revocationService.isRevoked(claims.get())) {
+                log.debug("JWT Token rejected, revoked for user: {}", claims.get().getSubject());
+            } else if (claims.isPresent()) {
+                request.setAttribute(CLAIMS_ATTRIBUTE, claims.get());
+                AuthenticatedUser principal = resolvePrincipal(claims.get());
 
-                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        userDetails,
-                        null,
-                        userDetails.getAuthorities());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                if (principal.isEnabled()) {
+                    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                            principal,
+                            null,
+                            principal.getAuthorities());
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-                log.debug("JWT Token validated for user: {}", username);
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                    log.debug("JWT Token validated for user: {}", principal.username());
+                } else {
+                    log.debug("JWT Token rejected for disabled user: {}", principal.username());
+                }
             }
         } catch (Exception ex) {
             log.debug("Could not set user authentication: {}", ex.getMessage());
@@ -60,6 +84,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Resolves the principal from the token claims in stateless mode,
+     * otherwise from the principal cache.
+     */
+    private AuthenticatedUser resolvePrincipal(Claims claims) {
+        if (statelessPrincipal) {
+            Optional<AuthenticatedUser> principal = tokenProvider.toPrincipal(claims);
+            if (principal.isPresent()) {
+                return principal.get();
+            }
+        }
+        return principalCache.loadUserByUsername(claims.getSubject());
+    }
+
     /**
      * Extracts the JWT token from the Authorization header.
      */
@@ -70,4 +108,4 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         return null;
     }
-}
\ No newline at end of file
+}
@@ -1,8 +1,15 @@
 package com.ats.security;
 
+import com.ats.domain.entity.User;
+import com.ats.domain.entity.UserRole;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -11,7 +18,14 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * JWT Token Provider - Generates and validates JWT tokens for authentication.
@@ -21,12 +35,13 @@ import java.util.Date;
  * 2. Server generates signed JWT token
  * 3. Client stores token (localStorage, sessionStorage, etc.)
  * 4. Client includes token in Authorization header for each request: "Bearer <token>"
- * 5. Server validates token signature and expiration
+ * 5. Server validates token signature, expiration and revocation (TokenRevocationService)
  * 6. If valid, request is processed; if invalid, return 401 Unauthorized
  * ------------
  * Token Structure: header.payload.signature
  * - Header: Token type (JWT) and algorithm (HS512)
- * - Payload: Username (subject), issued at, expiration
+ * - Payload: Token id (jti), username (subject), user id, role, enabled flag, issued at
+ *   (in seconds, plus in milliseconds for revocation), expiration
  * - Signature: HMAC-SHA512 hash signed with secret key
  * ------------
  * Security Benefits:
@@ -40,8 +55,12 @@ import java.util.Date;
 @RequiredArgsConstructor
 public class JwtTokenProvider {
 
-    /**
-     TODO
+    static final String CLAIM_USER_ID = "uid";
+    static final String CLAIM_ROLE = "role";
+    static final String CLAIM_ENABLED = "enabled";
+    /** Issue time in epoch millis; "iat" only has seconds, too coarse to order tokens against a revocation */
+    static final String CLAIM_ISSUED_AT_MS = "iat_ms";
+
     /** JWT secret key from configuration - change in production! */
     @Value("${app.jwt.secret}")
     private String jwtSecret;
@@ -50,29 +69,66 @@ public class JwtTokenProvider {
     @Value("${app.jwt.expiration}")
     private long jwtExpirationMs;
 
+    /** Maximum number of verified tokens kept in memory */
+    @Value("${app.jwt.verified-cache.max-size:10000}")
+    private long verifiedCacheMaxSize;
+
+    /** Signing key and parser are immutable and thread-safe, so they are built once */
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
     /**
-     * Creates a SecretKey from the JWT secret string.
-     * Extracted to reduce code duplication.
+     * Claims of tokens whose signature has already been verified, keyed by a
+     * SHA-256 digest of the token. Entries expire together with the token itself.
      */
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+    private Cache<String, Claims> verifiedTokens;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(Expiry.creating((String digest, Claims claims) -> timeToExpiry(claims)))
+                .build();
     }
 
     /**
      * Generates a JWT token from an authenticated user.
+     * When the principal is a known user, its id, role and enabled flag are
+     * embedded as claims (see toPrincipal).
      */
     public String generateToken(Authentication authentication) {
-        String username = authentication.getName();
+        if (authentication.getPrincipal() instanceof User user) {
+            return generateToken(AuthenticatedUser.from(user));
+        }
+        if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return generateToken(principal);
+        }
+        return generateTokenFromUsername(authentication.getName());
+    }
+
+    /**
+     * Generates a JWT token carrying the principal's id, role and enabled flag.
+     */
+    public String generateToken(AuthenticatedUser principal) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpirationMs);
 
         // Build and sign JWT token
         return Jwts.builder()
-                .subject(username)                      // Username stored in token
-                .issuedAt(now)                          // Token creation time
-                .expiration(expiryDate)                 // Token expiration time
-                .signWith(getSigningKey(), Jwts.SIG.HS512) // Sign with secret key
-                .compact();                             // Serialize to compact form
+                .id(UUID.randomUUID().toString())          // Token id (jti), used for revocation
+                .subject(principal.username())             // Username stored in token
+                .claim(CLAIM_USER_ID, principal.id())      // Principal claims
+                .claim(CLAIM_ROLE, principal.role().name())
+                .claim(CLAIM_ENABLED, principal.enabled())
+                .issuedAt(now)                             // Token creation time
+                .claim(CLAIM_ISSUED_AT_MS, now.getTime())
+                .expiration(expiryDate)                    // Token expiration time
+                .signWith(signingKey, Jwts.SIG.HS512)      // Sign with secret key
+                .compact();                                // Serialize to compact form
     }
 
     /**
@@ -84,10 +140,12 @@ public class JwtTokenProvider {
         Date expiryDate = new Date(now.getTime() + jwtExpirationMs);
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(username)
                 .issuedAt(now)
+                .claim(CLAIM_ISSUED_AT_MS, now.getTime())
                 .expiration(expiryDate)
-                .signWith(getSigningKey(), Jwts.SIG.HS512)
+                .signWith(signingKey, Jwts.SIG.HS512)
                 .compact();
     }
 
@@ -95,15 +153,8 @@ public class JwtTokenProvider {
      * Extracts the username from a JWT token.
      */
     public String getUsernameFromToken(String token) {
-        // Parse token and validate signature
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())  // Verify signature with key
-                .build()
-                .parseSignedClaims(token)     // Parse the token
-                .getPayload();                // Get payload claims
-
         // Extract username from "subject" claim
-        return claims.getSubject();
+        return parseClaims(token).getSubject();
     }
 
     /**
@@ -114,16 +165,69 @@ public class JwtTokenProvider {
      * 3. Token format is correct
      */
     public boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())  // Verify signature
-                    .build()
-                    .parseSignedClaims(token);    // Parse and validate
+        return getVerifiedClaims(token).isPresent();
+    }
 
-            return true;
+    /**
+     * Validates a JWT token and returns its claims in a single parse.
+     * Tokens that were verified before are served from the in-memory cache
+     * until they expire, so the signature is checked once per token.
+     */
+    public Optional<Claims> getVerifiedClaims(String token) {
+        try {
+            return Optional.of(parseClaims(token));
         } catch (Exception ex) {
             log.error("Invalid JWT token: {}", ex.getMessage());
-            return false;
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Builds the request principal from verified claims, without a database lookup.
+     * Returns empty for tokens issued without principal claims.
+     */
+    public Optional<AuthenticatedUser> toPrincipal(Claims claims) {
+        Number userId = claims.get(CLAIM_USER_ID, Number.class);
+        String role = claims.get(CLAIM_ROLE, String.class);
+        Boolean enabled = claims.get(CLAIM_ENABLED, Boolean.class);
+        if (userId == null || role == null || enabled == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new AuthenticatedUser(
+                userId.longValue(),
+                claims.getSubject(),
+                UserRole.valueOf(role),
+                enabled));
+    }
+
+    private Claims parseClaims(String token) {
+        String digest = digest(token);
+        Claims claims = verifiedTokens.getIfPresent(digest);
+        if (claims != null) {
+            return claims;
+        }
+
+        // Parse token and validate signature
+        claims = jwtParser.parseSignedClaims(token).getPayload();
+        verifiedTokens.put(digest, claims);
+        return claims;
+    }
+
+    private static Duration timeToExpiry(Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return Duration.ZERO;
+        }
+        Duration remaining = Duration.between(Instant.now(), expiration.toInstant());
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
         }
     }
-}
\ No newline at end of file
+}
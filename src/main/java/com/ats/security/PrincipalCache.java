@@ -0,0 +1,101 @@
+package com.ats.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * Bounded cache of authenticated principals in front of the UserDetailsService.
+ * Only the immutable AuthenticatedUser is cached, never the JPA entity.
+ * ------------
+ * The JWT filter resolves the principal of every authenticated request. Without
+ * this cache each request costs one or two user lookups in the database.
+ * ------------
+ * Eviction:
+ * - Entries expire after the configured TTL and the cache is capped in size
+ * - Entries are invalidated explicitly when a user is changed or removed
+ *   (see PrincipalCacheInvalidator)
+ * ------------
+ * Hit/miss/eviction counts are published as "cache.*" metrics with cache=principals.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PrincipalCache {
+
+    private final UserDetailsService userDetailsService;
+    private final MeterRegistry meterRegistry;
+
+    /** How long a principal may be served from memory before it is reloaded */
+    @Value("${app.security.principal-cache.ttl:5m}")
+    private Duration ttl;
+
+    /** Maximum number of principals kept in memory */
+    @Value("${app.security.principal-cache.max-size:10000}")
+    private long maxSize;
+
+    private Cache<String, AuthenticatedUser> principals;
+
+    @PostConstruct
+    void init() {
+        principals = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, principals, "principals");
+    }
+
+    /**
+     * Returns the principal for the given username, loading it through the
+     * UserDetailsService on a cache miss. Unknown users are not cached.
+     */
+    public AuthenticatedUser loadUserByUsername(String username) throws UsernameNotFoundException {
+        return principals.get(username, name -> AuthenticatedUser.from(userDetailsService.loadUserByUsername(name)));
+    }
+
+    /**
+     * Evicts the cached principal of a single user.
+     */
+    public void invalidate(String username) {
+        principals.invalidate(username);
+        log.debug("Principal cache invalidated for user: {}", username);
+    }
+
+    /**
+     * Evicts the cached principal of a single user once the current transaction
+     * commits, so a concurrent request cannot re-cache the old state; right
+     * away outside a transaction.
+     */
+    public void invalidateAfterCommit(String username) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(username);
+                }
+            });
+        } else {
+            invalidate(username);
+        }
+    }
+
+    /**
+     * Evicts every cached principal.
+     */
+    public void invalidateAll() {
+        principals.invalidateAll();
+    }
+}
@@ -0,0 +1,25 @@
+package com.ats.security;
+
+import com.ats.domain.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * JPA entity listener that evicts a user's cached principal whenever the
+ * user row is updated or removed through the entity.
+ * Eviction runs after commit so a concurrent request cannot re-cache the old state.
+ */
+@RequiredArgsConstructor
+public class PrincipalCacheInvalidator {
+
+    private final ObjectProvider<PrincipalCache> principalCache;
+
+    @PostUpdate
+    @PostRemove
+    void onUserChanged(User user) {
+        String username = user.getUsername();
+        principalCache.ifAvailable(cache -> cache.invalidateAfterCommit(username));
+    }
+}
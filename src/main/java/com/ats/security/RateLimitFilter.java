@@ -0,0 +1,99 @@
+package com.ats.security;
+
+import com.ats.exception.GlobalExceptionHandler.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.NonNull;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filter applying the RateLimiter, placed right after JwtAuthenticationFilter so
+ * that authenticated requests are keyed by user id.
+ * ------------
+ * Every limited response carries X-RateLimit-Limit, X-RateLimit-Remaining and
+ * X-RateLimit-Reset (seconds until the bucket is full). Rejected requests get
+ * 429 Too Many Requests with Retry-After.
+ * ------------
+ * The client IP is the remote address; behind a reverse proxy enable
+ * server.forward-headers-strategy so it reflects X-Forwarded-For.
+ */
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !rateLimiter.isEnabled() || path(request).startsWith("/actuator/health");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String path = path(request);
+        RateLimiter.Group group;
+        Object key;
+        if (path.equals("/auth/login") || path.equals("/auth/register")) {
+            group = RateLimiter.Group.AUTH;
+            key = request.getRemoteAddr();
+        } else {
+            group = path.startsWith("/applications/search")
+                    ? RateLimiter.Group.SEARCH
+                    : RateLimiter.Group.DEFAULT;
+            key = clientKey(request);
+        }
+
+        RateLimiter.Decision decision = rateLimiter.tryAcquire(group, key);
+        response.setHeader("X-RateLimit-Limit", String.valueOf(decision.limit()));
+        response.setHeader("X-RateLimit-Remaining", String.valueOf(decision.remaining()));
+        response.setHeader("X-RateLimit-Reset", String.valueOf(toSeconds(decision.resetNanos())));
+
+        if (decision.allowed()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(toSeconds(decision.retryAfterNanos())));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ErrorResponse.builder()
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .message("Too many requests, please retry later")
+                .timestamp(LocalDateTime.now())
+                .build());
+    }
+
+    /** Authenticated user id, or the client IP for anonymous requests */
+    private static Object clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return principal.id();
+        }
+        return request.getRemoteAddr();
+    }
+
+    /** Request path without the servlet context path */
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static long toSeconds(long nanos) {
+        return Math.max(1, (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+}
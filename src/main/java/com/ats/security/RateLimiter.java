@@ -0,0 +1,169 @@
+package com.ats.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket rate limiter, one bucket per client key and endpoint group.
+ * ------------
+ * Each bucket is implemented with the Generic Cell Rate Algorithm (GCRA), which
+ * behaves exactly like a token bucket of the given capacity and refill rate but
+ * needs a single number per key: the theoretical arrival time (TAT) of the next
+ * request. A request is admitted by advancing the TAT with a compare-and-set
+ * loop, so the hot path takes no lock.
+ * ------------
+ * Buckets live in one ConcurrentHashMap per group (lock-free reads, bin-striped
+ * writes). A bucket whose TAT lies further in the past than the idle timeout is
+ * full and indistinguishable from a new one, so it is evicted by sweep().
+ * ------------
+ * Groups:
+ * - AUTH: /auth/login and /auth/register, keyed by client IP
+ * - SEARCH: /applications/search/**, keyed by user id
+ * - DEFAULT: everything else, keyed by user id (client IP when anonymous)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimiter {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    /** Buckets untouched for this long are evicted */
+    @Value("${app.rate-limit.idle-timeout:10m}")
+    private Duration idleTimeout;
+
+    @Value("${app.rate-limit.auth.capacity:10}")
+    private int authCapacity;
+
+    @Value("${app.rate-limit.auth.refill-per-second:0.2}")
+    private double authRefillPerSecond;
+
+    @Value("${app.rate-limit.search.capacity:20}")
+    private int searchCapacity;
+
+    @Value("${app.rate-limit.search.refill-per-second:5}")
+    private double searchRefillPerSecond;
+
+    @Value("${app.rate-limit.default.capacity:100}")
+    private int defaultCapacity;
+
+    @Value("${app.rate-limit.default.refill-per-second:50}")
+    private double defaultRefillPerSecond;
+
+    private final Map<Group, Limit> limits = new EnumMap<>(Group.class);
+
+    @PostConstruct
+    void init() {
+        limits.put(Group.AUTH, new Limit(Group.AUTH, authCapacity, authRefillPerSecond));
+        limits.put(Group.SEARCH, new Limit(Group.SEARCH, searchCapacity, searchRefillPerSecond));
+        limits.put(Group.DEFAULT, new Limit(Group.DEFAULT, defaultCapacity, defaultRefillPerSecond));
+        log.info("Rate limiting {}: {}", enabled ? "enabled" : "disabled", limits.values());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Takes one token from the bucket of the given key.
+     *
+     * @param key client key within the group (user id or IP address)
+     */
+    public Decision tryAcquire(Group group, Object key) {
+        return limits.get(group).tryAcquire(key, System.nanoTime());
+    }
+
+    /**
+     * Evicts buckets that have been idle (and therefore full) for the idle timeout.
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limit.sweep-interval:1m}")
+    public void sweep() {
+        long idleBefore = System.nanoTime() - idleTimeout.toNanos();
+        limits.values().forEach(limit -> limit.evictIdle(idleBefore));
+    }
+
+    /** Endpoint groups with separate limits */
+    public enum Group {
+        AUTH,
+        SEARCH,
+        DEFAULT
+    }
+
+    /**
+     * Outcome of an acquire attempt, with the values for the rate-limit headers.
+     *
+     * @param retryAfterNanos time until a token is available, 0 when allowed
+     * @param resetNanos      time until the bucket is full again
+     */
+    public record Decision(boolean allowed, int limit, int remaining, long retryAfterNanos, long resetNanos) {
+    }
+
+    /** One group's configuration and buckets */
+    private final class Limit {
+        private final Group group;
+        private final int capacity;
+        private final long emissionIntervalNanos;
+        private final long burstToleranceNanos;
+        private final ConcurrentHashMap<Object, AtomicLong> buckets = new ConcurrentHashMap<>();
+        private final Counter rejected;
+
+        Limit(Group group, int capacity, double refillPerSecond) {
+            this.group = group;
+            this.capacity = capacity;
+            this.emissionIntervalNanos = (long) (1_000_000_000L / refillPerSecond);
+            this.burstToleranceNanos = emissionIntervalNanos * (capacity - 1);
+            this.rejected = Counter.builder("rate.limit.rejected")
+                    .description("Requests rejected by the rate limiter")
+                    .tag("group", group.name().toLowerCase())
+                    .register(meterRegistry);
+            Gauge.builder("rate.limit.buckets", buckets, Map::size)
+                    .description("Active rate limit buckets")
+                    .tag("group", group.name().toLowerCase())
+                    .register(meterRegistry);
+        }
+
+        Decision tryAcquire(Object key, long now) {
+            AtomicLong bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+            while (true) {
+                long tat = bucket.get();
+                long start = Math.max(tat, now);
+                long waitNanos = start - now - burstToleranceNanos;
+                if (waitNanos > 0) {
+                    rejected.increment();
+                    return new Decision(false, capacity, 0, waitNanos, start - now);
+                }
+                long newTat = start + emissionIntervalNanos;
+                if (bucket.compareAndSet(tat, newTat)) {
+                    long used = newTat - now;
+                    int remaining = (int) ((burstToleranceNanos + emissionIntervalNanos - used) / emissionIntervalNanos);
+                    return new Decision(true, capacity, remaining, 0, used);
+                }
+            }
+        }
+
+        void evictIdle(long idleBefore) {
+            buckets.values().removeIf(bucket -> bucket.get() < idleBefore);
+        }
+
+        @Override
+        public String toString() {
+            return group + "(capacity=" + capacity + ", interval=" + Duration.ofNanos(emissionIntervalNanos) + ")";
+        }
+    }
+}
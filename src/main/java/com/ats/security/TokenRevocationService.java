@@ -0,0 +1,238 @@
+package com.ats.security;
+
+import com.ats.datasource.ReadYourWrites;
+import com.ats.domain.entity.RevokedToken;
+import com.ats.domain.entity.User;
+import com.ats.domain.repository.RevokedTokenRepository;
+import com.ats.domain.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Revocation of JWTs before their expiration (denylist).
+ * ------------
+ * Two kinds of revocation, both persisted in Postgres:
+ * - Single token (logout): its jti is stored in revoked_tokens
+ * - All tokens of a user (logout everywhere): users.tokens_revoked_at is set,
+ *   and every token issued up to that millisecond is rejected. Tokens carry
+ *   their issue time in milliseconds, so logging in again right after is not
+ *   caught by the cutoff; tokens without it fall back to the issued-at second
+ * ------------
+ * Lookup path (JwtAuthenticationFilter, every request):
+ * 1. Bloom filter on the jti - a miss proves the token was not revoked
+ * 2. Exact set of revoked jtis, only consulted on a Bloom filter hit
+ * 3. Per-user cutoff map, keyed by username
+ * The common not-revoked path is a few array reads and one map miss, without
+ * allocation or database access.
+ * ------------
+ * Bounded size:
+ * - Entries are only kept until the token itself expires (app.jwt.expiration)
+ * - prune() drops expired entries in memory and in the database, and rebuilds
+ *   the Bloom filter since bits cannot be removed
+ * ------------
+ * Other instances pick up revocations through sync(), which reads rows revoked
+ * since the previous run (with an overlap for in-flight transactions).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationService {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+
+    /** JWT token expiration time in milliseconds, bounds how long entries are kept */
+    @Value("${app.jwt.expiration}")
+    private long jwtExpirationMs;
+
+    /** Bloom filter sizing; the filter is resized on prune if exceeded */
+    @Value("${app.jwt.revocation.expected-revocations:100000}")
+    private int expectedRevocations;
+
+    @Value("${app.jwt.revocation.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    /** How far back each sync re-reads, to catch transactions committed late */
+    @Value("${app.jwt.revocation.sync-overlap:1m}")
+    private Duration syncOverlap;
+
+    /** Revoked jti -> token expiration (epoch millis) */
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+
+    /** Username -> tokens issued at or before this epoch millisecond are revoked */
+    private final Map<String, Long> userCutoffs = new ConcurrentHashMap<>();
+
+    private volatile BloomFilter bloomFilter;
+    private int bloomFilterCapacity;
+    private volatile LocalDateTime lastSync;
+
+    @PostConstruct
+    void init() {
+        bloomFilter = new BloomFilter(expectedRevocations, falsePositiveRate);
+        bloomFilterCapacity = expectedRevocations;
+        LocalDateTime now = LocalDateTime.now();
+        try (ReadYourWrites.Scope ignored = ReadYourWrites.primaryOnly()) {
+            revokedTokenRepository.findByExpiresAtAfter(now).forEach(this::register);
+            userRepository.findTokenCutoffsSince(now.minus(Duration.ofMillis(jwtExpirationMs)))
+                    .forEach(cutoff -> registerCutoff(cutoff.getUsername(), cutoff.getTokensRevokedAt()));
+        }
+        lastSync = now;
+
+        Gauge.builder("jwt.revocations", revokedTokens, Map::size)
+                .description("Revoked tokens kept in memory")
+                .tag("scope", "token")
+                .register(meterRegistry);
+        Gauge.builder("jwt.revocations", userCutoffs, Map::size)
+                .description("Revoked tokens kept in memory")
+                .tag("scope", "user")
+                .register(meterRegistry);
+        log.info("Token revocation loaded: {} tokens, {} users", revokedTokens.size(), userCutoffs.size());
+    }
+
+    /**
+     * Checks whether a token with verified claims has been revoked.
+     */
+    public boolean isRevoked(Claims claims) {
+        String tokenId = claims.getId();
+        if (tokenId != null && bloomFilter.mightContain(tokenId) && revokedTokens.containsKey(tokenId)) {
+            return true;
+        }
+        Long cutoff = userCutoffs.get(claims.getSubject());
+        if (cutoff == null) {
+            return false;
+        }
+        Long issuedAt = issuedAtMillis(claims);
+        return issuedAt == null || issuedAt <= cutoff;
+    }
+
+    /**
+     * Revokes a single token until its expiration.
+     *
+     * @throws IllegalArgumentException if the token carries no id (issued before revocation support)
+     */
+    @Transactional
+    public void revoke(Claims claims) {
+        if (claims.getId() == null) {
+            throw new IllegalArgumentException("Token cannot be revoked individually, revoke all tokens instead");
+        }
+        RevokedToken revokedToken = revokedTokenRepository.save(RevokedToken.builder()
+                .tokenId(claims.getId())
+                .username(claims.getSubject())
+                .expiresAt(LocalDateTime.ofInstant(claims.getExpiration().toInstant(), ZoneId.systemDefault()))
+                .revokedAt(LocalDateTime.now())
+                .build());
+        register(revokedToken);
+        log.info("Token revoked for user: {}", claims.getSubject());
+    }
+
+    /**
+     * Revokes every token issued to the user so far.
+     *
+     * @throws IllegalArgumentException if the user does not exist
+     */
+    @Transactional
+    public void revokeAll(String username) {
+        LocalDateTime now = LocalDateTime.now();
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
+        user.setTokensRevokedAt(now);
+        registerCutoff(username, now);
+        log.info("All tokens revoked for user: {}", username);
+    }
+
+    /**
+     * Picks up revocations made on other instances. Reads the primary: lastSync
+     * moves on by the local clock, so revocations a lagging replica had not
+     * replayed yet would never be picked up.
+     */
+    @Scheduled(fixedDelayString = "${app.jwt.revocation.sync-interval:30s}",
+            initialDelayString = "${app.jwt.revocation.sync-interval:30s}")
+    @Transactional(readOnly = true)
+    public void sync() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = lastSync.minus(syncOverlap);
+        try (ReadYourWrites.Scope ignored = ReadYourWrites.primaryOnly()) {
+            revokedTokenRepository.findByRevokedAtAfter(since).forEach(this::register);
+            userRepository.findTokenCutoffsSince(since)
+                    .forEach(cutoff -> registerCutoff(cutoff.getUsername(), cutoff.getTokensRevokedAt()));
+        }
+        lastSync = now;
+    }
+
+    /**
+     * Drops entries whose tokens have expired anyway and rebuilds the Bloom filter.
+     */
+    @Scheduled(fixedDelayString = "${app.jwt.revocation.prune-interval:10m}",
+            initialDelayString = "${app.jwt.revocation.prune-interval:10m}")
+    @Transactional
+    public void prune() {
+        long now = System.currentTimeMillis();
+        long oldestLiveIssuedAt = now - jwtExpirationMs;
+
+        synchronized (this) {
+            revokedTokens.values().removeIf(expiresAt -> expiresAt < now);
+            userCutoffs.values().removeIf(cutoff -> cutoff < oldestLiveIssuedAt);
+            rebuildBloomFilter();
+        }
+        int deleted = revokedTokenRepository.deleteExpired(LocalDateTime.now());
+        log.debug("Token revocation pruned: {} rows deleted, {} tokens kept", deleted, revokedTokens.size());
+    }
+
+    private synchronized void register(RevokedToken revokedToken) {
+        long expiresAt = toEpochMillis(revokedToken.getExpiresAt());
+        if (expiresAt < System.currentTimeMillis()) {
+            return;
+        }
+        revokedTokens.put(revokedToken.getTokenId(), expiresAt);
+        bloomFilter.put(revokedToken.getTokenId());
+        if (revokedTokens.size() > bloomFilterCapacity) {
+            rebuildBloomFilter();
+        }
+    }
+
+    private void registerCutoff(String username, LocalDateTime revokedAt) {
+        userCutoffs.merge(username, toEpochMillis(revokedAt), Math::max);
+    }
+
+    /**
+     * Issue time in epoch millis. Tokens without the millisecond claim are
+     * taken as issued at the start of their second, so a revocation in that
+     * second still rejects them.
+     */
+    private static Long issuedAtMillis(Claims claims) {
+        Number issuedAtMs = claims.get(JwtTokenProvider.CLAIM_ISSUED_AT_MS, Number.class);
+        if (issuedAtMs != null) {
+            return issuedAtMs.longValue();
+        }
+        Date issuedAt = claims.getIssuedAt();
+        return issuedAt == null ? null : issuedAt.getTime() / 1000 * 1000;
+    }
+
+    /** Callers hold the monitor, so no revocation is added while the filter is swapped */
+    private void rebuildBloomFilter() {
+        bloomFilterCapacity = Math.max(expectedRevocations, revokedTokens.size() * 2);
+        BloomFilter rebuilt = new BloomFilter(bloomFilterCapacity, falsePositiveRate);
+        revokedTokens.keySet().forEach(rebuilt::put);
+        bloomFilter = rebuilt;
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
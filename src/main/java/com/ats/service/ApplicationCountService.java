@@ -0,0 +1,28 @@
+package com.ats.service;
+
+import com.ats.domain.entity.ApplicationStatus;
+
+/**
+ * Service interface for the per-owner, per-status application counters.
+ * Writers call increment/transition inside the transaction that changes the
+ * applications, so the counters commit or roll back with them.
+ */
+public interface ApplicationCountService {
+
+    void increment(Long ownerId, ApplicationStatus status, long delta);
+
+    /** Moves one application from one status counter to another */
+    void transition(Long ownerId, ApplicationStatus from, ApplicationStatus to);
+
+    long countByOwner(Long ownerId);
+
+    long countByOwnerAndStatus(Long ownerId, ApplicationStatus status);
+
+    /**
+     * Recomputes the counters of every owner whose counters drifted from the
+     * applications table.
+     *
+     * @return number of owners repaired
+     */
+    int reconcile();
+}
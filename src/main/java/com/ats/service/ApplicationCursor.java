@@ -0,0 +1,39 @@
+package com.ats.service;
+
+import com.ats.domain.entity.Application;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * Position in a user's applications ordered by (dateApplied DESC, id DESC),
+ * i.e. the sort key and id of the last row of a page. Clients only see the
+ * opaque encoded form and pass it back to get the next page.
+ */
+public record ApplicationCursor(LocalDate dateApplied, Long id) {
+
+    public static ApplicationCursor of(Application application) {
+        return new ApplicationCursor(application.getDateApplied(), application.getId());
+    }
+
+    public String encode() {
+        String value = dateApplied + "," + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the cursor was not produced by encode()
+     */
+    public static ApplicationCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.indexOf(',');
+            return new ApplicationCursor(
+                    LocalDate.parse(value.substring(0, separator)),
+                    Long.valueOf(value.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+}
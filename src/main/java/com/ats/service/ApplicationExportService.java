@@ -0,0 +1,26 @@
+package com.ats.service;
+
+import com.ats.domain.entity.ApplicationStatus;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Service interface for exporting all of a user's applications at once.
+ */
+public interface ApplicationExportService {
+
+    /**
+     * Writes the owner's applications matching the searchApplications filters
+     * to the output, newest first, as ApplicationResponse rows.
+     *
+     * @return number of applications written
+     */
+    long exportApplications(
+            Long ownerId,
+            ApplicationStatus status,
+            String companyName,
+            String jobTitle,
+            ApplicationFileFormat format,
+            OutputStream output) throws IOException;
+}
@@ -0,0 +1,71 @@
+package com.ats.service;
+
+import com.ats.api.dto.response.ApplicationResponse;
+import com.ats.domain.entity.ApplicationStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * ApplicationResponse properties a client can select with the fields
+ * parameter. Each property is read from the Application attribute of the
+ * same name, so only the selected columns are queried.
+ */
+public enum ApplicationField {
+    ID((response, value) -> response.setId((Long) value)),
+    COMPANY_NAME((response, value) -> response.setCompanyName((String) value)),
+    JOB_TITLE((response, value) -> response.setJobTitle((String) value)),
+    DATE_APPLIED((response, value) -> response.setDateApplied((LocalDate) value)),
+    STATUS((response, value) -> response.setStatus((ApplicationStatus) value)),
+    JOB_URL((response, value) -> response.setJobUrl((String) value)),
+    NOTES((response, value) -> response.setNotes((String) value)),
+    CREATED_AT((response, value) -> response.setCreatedAt((LocalDateTime) value)),
+    UPDATED_AT((response, value) -> response.setUpdatedAt((LocalDateTime) value));
+
+    private final BiConsumer<ApplicationResponse, Object> setter;
+
+    ApplicationField(BiConsumer<ApplicationResponse, Object> setter) {
+        this.setter = setter;
+    }
+
+    /** Name of the ApplicationResponse property and Application attribute */
+    public String getProperty() {
+        String[] words = name().toLowerCase().split("_");
+        StringBuilder property = new StringBuilder(words[0]);
+        for (int i = 1; i < words.length; i++) {
+            property.append(Character.toUpperCase(words[i].charAt(0))).append(words[i].substring(1));
+        }
+        return property.toString();
+    }
+
+    public void apply(ApplicationResponse response, Object value) {
+        setter.accept(response, value);
+    }
+
+    /**
+     * Parses a comma-separated list of property names, e.g. "id,companyName,status".
+     *
+     * @throws IllegalArgumentException if the list is empty or names an unknown property
+     */
+    public static Set<ApplicationField> parse(String fields) {
+        Set<ApplicationField> selected = EnumSet.noneOf(ApplicationField.class);
+        for (String name : fields.split(",")) {
+            String property = name.trim();
+            if (property.isEmpty()) {
+                continue;
+            }
+            selected.add(Arrays.stream(values())
+                    .filter(field -> field.getProperty().equals(property))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown field: " + property)));
+        }
+        if (selected.isEmpty()) {
+            throw new IllegalArgumentException("At least one field is required");
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,60 @@
+package com.ats.service;
+
+import org.springframework.http.MediaType;
+
+import java.util.Locale;
+
+/**
+ * File formats for application import and export.
+ * Both carry ApplicationRequest/ApplicationResponse property names, so an
+ * export can be imported again.
+ */
+public enum ApplicationFileFormat {
+    /** Header row with property names, then one row per application */
+    CSV("text/csv"),
+    /** One JSON object per line */
+    NDJSON("application/x-ndjson");
+
+    private final MediaType mediaType;
+
+    ApplicationFileFormat(String mediaType) {
+        this.mediaType = MediaType.valueOf(mediaType);
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /** File extension, e.g. for a Content-Disposition filename */
+    public String getExtension() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Resolves a format request parameter such as "csv" or "ndjson".
+     *
+     * @throws IllegalArgumentException if the format is not supported
+     */
+    public static ApplicationFileFormat fromParameter(String value) {
+        for (ApplicationFileFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported format: " + value);
+    }
+
+    /**
+     * Resolves a request Content-Type.
+     *
+     * @throws IllegalArgumentException if the media type is not supported
+     */
+    public static ApplicationFileFormat fromMediaType(MediaType mediaType) {
+        for (ApplicationFileFormat format : values()) {
+            if (format.mediaType.includes(mediaType)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported media type: " + mediaType);
+    }
+}
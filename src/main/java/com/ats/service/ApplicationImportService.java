@@ -0,0 +1,27 @@
+package com.ats.service;
+
+import com.ats.api.dto.response.ApplicationImportResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * Service interface for importing many applications from an upload.
+ * The input is read as a stream and per-row results are handed to the
+ * caller as they become final, so neither side is held in memory.
+ */
+public interface ApplicationImportService {
+
+    /**
+     * Imports ApplicationRequest rows for the owner.
+     *
+     * @param results receives one result per row, then the COMPLETED totals
+     * @return the COMPLETED totals
+     */
+    ApplicationImportResult importApplications(
+            Long ownerId,
+            InputStream input,
+            ApplicationFileFormat format,
+            Consumer<ApplicationImportResult> results) throws IOException;
+}
@@ -4,41 +4,106 @@ import com.ats.api.dto.request.ApplicationRequest;
 import com.ats.api.dto.request.ApplicationStatusUpdateRequest;
 import com.ats.api.dto.response.ApplicationDetailResponse;
 import com.ats.api.dto.response.ApplicationResponse;
+import com.ats.api.dto.response.CursorPage;
 import com.ats.domain.entity.ApplicationStatus;
-import com.ats.domain.entity.User;
+import com.ats.exception.ResourceNotFoundException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
-import java.util.Optional;
+import java.util.Set;
 
 /**
  * Service interface for managing Applications.
  * Defines methods for creating, retrieving, updating, deleting,
- * and searching applications, as well as updating application status
- * and validating ownership.
+ * and searching applications, as well as updating application status.
+ * Single applications are addressed by (id, owner id); a missing or foreign
+ * id is reported as ResourceNotFoundException.
+ * Callers identify users by id, so no managed User entity is needed per request.
+ * Listing and search come in two forms: offset pages (with a total count) and
+ * cursor pages, which cost the same at any depth.
+ * Offset pages can be limited to a set of fields, in which case only those
+ * columns are queried and the other properties are left null.
  */
 public interface ApplicationService {
 
-        ApplicationResponse createApplication(User owner, ApplicationRequest request);
+        ApplicationResponse createApplication(Long ownerId, ApplicationRequest request);
 
-        Optional<ApplicationDetailResponse> findById(Long id);
+        /**
+         * Application details, scoped to the owner.
+         *
+         * @throws ResourceNotFoundException if the application does not exist or belongs to another user
+         */
+        ApplicationDetailResponse findDetail(Long id, Long ownerId);
 
-        Page<ApplicationResponse> findByOwner(User owner, Pageable pageable);
+        Page<ApplicationResponse> findByOwner(Long ownerId, Pageable pageable);
 
+        /**
+         * @param companyName optional case-insensitive substring of the company name
+         * @param jobTitle    optional case-insensitive substring of the job title
+         */
         Page<ApplicationResponse> searchApplications(
-                        User owner,
+                        Long ownerId,
                         ApplicationStatus status,
                         String companyName,
+                        String jobTitle,
                         Pageable pageable);
 
-        ApplicationResponse updateApplication(Long id, ApplicationRequest request);
+        Page<ApplicationResponse> findByOwner(Long ownerId, Set<ApplicationField> fields, Pageable pageable);
 
-        void deleteApplication(Long id);
+        /**
+         * Full-text search over job title, company name, notes and note content,
+         * best match first.
+         *
+         * @param query    search terms, e.g. kubernetes "platform team" -contract
+         * @param pageable page and size; any sort is ignored
+         * @throws IllegalArgumentException if the query is blank
+         */
+        Page<ApplicationResponse> searchText(Long ownerId, String query, Pageable pageable);
 
+        Page<ApplicationResponse> searchApplications(
+                        Long ownerId,
+                        ApplicationStatus status,
+                        String companyName,
+                        String jobTitle,
+                        Set<ApplicationField> fields,
+                        Pageable pageable);
+
+        /**
+         * @param cursor nextCursor of the previous page, or null for the first page
+         * @throws IllegalArgumentException if the cursor or size is invalid
+         */
+        CursorPage<ApplicationResponse> findByOwner(Long ownerId, String cursor, int size);
+
+        /**
+         * @param cursor nextCursor of the previous page, or null for the first page
+         * @throws IllegalArgumentException if the cursor or size is invalid
+         */
+        CursorPage<ApplicationResponse> searchApplications(
+                        Long ownerId,
+                        ApplicationStatus status,
+                        String companyName,
+                        String jobTitle,
+                        String cursor,
+                        int size);
+
+        /**
+         * @throws ResourceNotFoundException if the application does not exist or belongs to another user
+         */
+        ApplicationResponse updateApplication(Long id, Long ownerId, ApplicationRequest request);
+
+        /**
+         * @throws ResourceNotFoundException if the application does not exist or belongs to another user
+         */
+        void deleteApplication(Long id, Long ownerId);
+
+        /**
+         * Transitions the status and records it in the history as changed by the owner.
+         *
+         * @throws ResourceNotFoundException if the application does not exist or belongs to another user
+         * @throws IllegalStateException     if the transition is not allowed
+         */
         ApplicationResponse updateApplicationStatus(
                         Long id,
                         ApplicationStatusUpdateRequest request,
-                        User updatedBy);
-
-        void validateOwnership(Long applicationId, User user);
+                        Long ownerId);
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.ats.service;
+
+import java.time.YearMonth;
+
+/**
+ * Service interface for the monthly partitions of application_status_history.
+ * Partitions are created ahead of the months that will write to them, and
+ * partitions past the retention horizon are rolled up into
+ * application_status_summaries and detached.
+ */
+public interface StatusHistoryPartitionService {
+
+    /**
+     * Creates the missing partitions from the given month up to the configured
+     * number of months ahead.
+     *
+     * @return number of partitions created
+     */
+    int createPartitions(YearMonth current);
+
+    /**
+     * Rolls up and detaches every partition of a month older than the
+     * retention horizon counted back from the given month.
+     *
+     * @return number of partitions retired
+     */
+    int retirePartitions(YearMonth current);
+}
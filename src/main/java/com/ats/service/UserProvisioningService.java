@@ -0,0 +1,14 @@
+package com.ats.service;
+
+import com.ats.api.dto.request.UserRegistrationRequest;
+import com.ats.api.dto.response.BulkUserRegistrationResponse;
+
+import java.util.List;
+
+/**
+ * Service interface for provisioning many users at once.
+ */
+public interface UserProvisioningService {
+
+    BulkUserRegistrationResponse registerAll(List<UserRegistrationRequest> requests);
+}
@@ -0,0 +1,126 @@
+package com.ats.service.impl;
+
+import com.ats.datasource.ReadYourWrites;
+import com.ats.domain.entity.ApplicationCount;
+import com.ats.domain.entity.ApplicationStatus;
+import com.ats.domain.repository.ApplicationCountRepository;
+import com.ats.domain.repository.ApplicationRepository;
+import com.ats.domain.repository.ApplicationRepository.StatusTotal;
+import com.ats.service.ApplicationCountService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service implementation for the application counters.
+ * ------------
+ * Increments are single upserts on the (owner, status) row, so concurrent
+ * writers for the same owner serialize on that row. A transition updates two
+ * rows and always locks them in enum order, so two transitions (or a
+ * transition and reconciliation) cannot deadlock.
+ * ------------
+ * Reconciliation (scheduled, app.application-counts.reconcile-interval):
+ * 1. One unlocked query finds owners whose counters look wrong
+ * 2. For each, in its own transaction: lock every counter of the owner
+ *    (creating missing ones), then count the applications and fix the totals.
+ *    Writers that committed before the lock are counted; writers that had not
+ *    yet touched the counters apply their delta after the repair.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApplicationCountServiceImpl implements ApplicationCountService {
+
+    private final ApplicationCountRepository countRepository;
+    private final ApplicationRepository applicationRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void increment(Long ownerId, ApplicationStatus status, long delta) {
+        countRepository.increment(ownerId, status.name(), delta);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void transition(Long ownerId, ApplicationStatus from, ApplicationStatus to) {
+        if (from == to) {
+            return;
+        }
+        if (from.ordinal() < to.ordinal()) {
+            countRepository.increment(ownerId, from.name(), -1);
+            countRepository.increment(ownerId, to.name(), 1);
+        } else {
+            countRepository.increment(ownerId, to.name(), 1);
+            countRepository.increment(ownerId, from.name(), -1);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countByOwner(Long ownerId) {
+        return countRepository.sumByOwnerId(ownerId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countByOwnerAndStatus(Long ownerId, ApplicationStatus status) {
+        return countRepository.sumByOwnerIdAndStatus(ownerId, status);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.application-counts.reconcile-interval:1h}",
+            initialDelayString = "${app.application-counts.reconcile-interval:1h}")
+    public int reconcile() {
+        List<Long> owners;
+        // A lagging replica would report drift the primary no longer has, and miss new drift
+        try (ReadYourWrites.Scope ignored = ReadYourWrites.primaryOnly()) {
+            owners = countRepository.findOwnersWithDrift();
+        }
+        int repaired = 0;
+        for (Long ownerId : owners) {
+            Boolean changed = transactionTemplate.execute(status -> reconcileOwner(ownerId));
+            if (Boolean.TRUE.equals(changed)) {
+                repaired++;
+            }
+        }
+        if (repaired > 0) {
+            log.warn("Application counts repaired for {} owners", repaired);
+        } else {
+            log.debug("Application counts checked: no drift");
+        }
+        return repaired;
+    }
+
+    private boolean reconcileOwner(Long ownerId) {
+        // A zero increment upserts and locks the row, in enum order
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            countRepository.increment(ownerId, status.name(), 0);
+        }
+
+        Map<ApplicationStatus, Long> actual = new EnumMap<>(ApplicationStatus.class);
+        for (StatusTotal total : applicationRepository.countByOwnerIdGroupByStatus(ownerId)) {
+            actual.put(total.getStatus(), total.getTotal());
+        }
+
+        boolean changed = false;
+        for (ApplicationCount count : countRepository.findByOwnerId(ownerId)) {
+            long expected = actual.getOrDefault(count.getStatus(), 0L);
+            if (count.getTotal() != expected) {
+                log.warn("Application count drift for owner {} {}: {} counted, {} actual",
+                        ownerId, count.getStatus(), count.getTotal(), expected);
+                countRepository.setTotal(ownerId, count.getStatus().name(), expected);
+                changed = true;
+            }
+        }
+        return changed;
+    }
+}
@@ -0,0 +1,112 @@
+package com.ats.service.impl;
+
+import com.ats.api.dto.response.ApplicationResponse;
+import com.ats.domain.entity.Application;
+import com.ats.domain.entity.ApplicationStatus;
+import com.ats.domain.repository.ApplicationRepository;
+import com.ats.domain.repository.ApplicationSpecifications;
+import com.ats.service.ApplicationCursor;
+import com.ats.service.ApplicationExportService;
+import com.ats.service.ApplicationFileFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Service implementation for application exports.
+ * Rows are read in keyset chunks of CHUNK_SIZE with the searchApplications
+ * filters, each chunk in its own short read-only transaction, and written to
+ * the output between chunks. A slow download holds no database connection,
+ * and memory use does not depend on the number of applications.
+ * ------------
+ * As when paging through GET /applications, rows do not come from a single
+ * snapshot: an application whose dateApplied changes during the export may be
+ * missed or written twice.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApplicationExportServiceImpl implements ApplicationExportService {
+
+    /** Rows read per transaction */
+    static final int CHUNK_SIZE = 500;
+
+    private final ApplicationRepository applicationRepository;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public long exportApplications(
+            Long ownerId,
+            ApplicationStatus status,
+            String companyName,
+            String jobTitle,
+            ApplicationFileFormat format,
+            OutputStream output) throws IOException {
+        long count = 0;
+        Specification<Application> filter = ApplicationSpecifications.ownedBy(ownerId)
+                .and(ApplicationSpecifications.hasStatus(status))
+                .and(ApplicationSpecifications.companyNameContains(companyName))
+                .and(ApplicationSpecifications.jobTitleContains(jobTitle));
+        try (SequenceWriter writer = writer(format).writeValues(output)) {
+            ApplicationCursor after = null;
+            List<ApplicationResponse> chunk;
+            do {
+                chunk = readChunk(filter, after);
+                writer.writeAll(chunk);
+                count += chunk.size();
+                if (!chunk.isEmpty()) {
+                    ApplicationResponse last = chunk.get(chunk.size() - 1);
+                    after = new ApplicationCursor(last.getDateApplied(), last.getId());
+                }
+            } while (chunk.size() == CHUNK_SIZE);
+        }
+        if (format == ApplicationFileFormat.NDJSON && count > 0) {
+            output.write('\n');
+        }
+        log.info("Application export finished for owner {}: {} applications", ownerId, count);
+        return count;
+    }
+
+    private List<ApplicationResponse> readChunk(Specification<Application> filter, ApplicationCursor after) {
+        Specification<Application> page = after == null
+                ? filter
+                : filter.and(ApplicationSpecifications.seekAfter(after.dateApplied(), after.id()));
+        return readOnlyTransaction.execute(transaction -> applicationRepository
+                .findPage(page, Limit.of(CHUNK_SIZE))
+                .stream()
+                .map(ApplicationResponse::fromEntity)
+                .toList());
+    }
+
+    private ObjectWriter writer(ApplicationFileFormat format) {
+        ObjectWriter writer = switch (format) {
+            case CSV -> ApplicationCsv.MAPPER.writerFor(ApplicationResponse.class)
+                    .with(ApplicationCsv.MAPPER.schemaFor(ApplicationResponse.class).withHeader());
+            case NDJSON -> objectMapper.writerFor(ApplicationResponse.class).withRootValueSeparator("\n");
+        };
+        // The caller owns the output stream
+        return writer.without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+}
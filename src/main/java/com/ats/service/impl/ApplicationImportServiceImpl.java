@@ -0,0 +1,263 @@
+package com.ats.service.impl;
+
+import com.ats.api.dto.request.ApplicationRequest;
+import com.ats.api.dto.response.ApplicationImportResult;
+import com.ats.api.dto.response.ApplicationImportResult.ImportStatus;
+import com.ats.domain.entity.ApplicationStatus;
+import com.ats.service.ApplicationCountService;
+import com.ats.service.ApplicationFileFormat;
+import com.ats.service.ApplicationImportService;
+import com.fasterxml.jackson.core.exc.StreamReadException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Service implementation for application imports.
+ * Rows are read one at a time from the upload and go through three stages:
+ * 1. Deserialization and bean validation; failing rows are reported right away
+ * 2. Valid rows are buffered up to CHUNK_SIZE
+ * 3. Each chunk is loaded with a single COPY ... FROM STDIN in its own
+ *    transaction, together with the application counters; a chunk the
+ *    database rejects fails all of its rows
+ * ------------
+ * Ids are taken from applications_seq in blocks, the same way Hibernate's
+ * pooled-lo optimizer does (each nextval is the low end of ID_BLOCK_SIZE ids),
+ * so imported rows and rows created through JPA never collide.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApplicationImportServiceImpl implements ApplicationImportService {
+
+    static final int CHUNK_SIZE = 1000;
+
+    /** Must match the allocationSize of Application's sequence generator */
+    static final int ID_BLOCK_SIZE = 50;
+
+    private static final String ALLOCATE_IDS = "SELECT nextval('applications_seq') FROM generate_series(1, ?)";
+    private static final String COPY_APPLICATIONS = "COPY applications "
+            + "(id, owner_id, company_name, job_title, date_applied, status, job_url, notes, created_at, updated_at) "
+            + "FROM STDIN (FORMAT csv)";
+
+    private static final CsvSchema CSV_SCHEMA = CsvSchema.emptySchema().withHeader();
+
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ApplicationCountService applicationCountService;
+
+    @Override
+    public ApplicationImportResult importApplications(
+            Long ownerId,
+            InputStream input,
+            ApplicationFileFormat format,
+            Consumer<ApplicationImportResult> results) throws IOException {
+        ImportRun run = new ImportRun(ownerId, results);
+        long row = 0;
+
+        try (MappingIterator<ApplicationRequest> iterator = reader(format).readValues(input)) {
+            while (true) {
+                ApplicationRequest request;
+                try {
+                    if (!iterator.hasNextValue()) {
+                        break;
+                    }
+                    request = iterator.nextValue();
+                } catch (JsonMappingException e) {
+                    run.fail(++row, mappingError(e));
+                    continue;
+                } catch (StreamReadException e) {
+                    run.fail(++row, "Malformed input, remaining rows were not read");
+                    break;
+                }
+                run.accept(++row, request);
+            }
+        }
+        run.flush();
+
+        ApplicationImportResult completed = ApplicationImportResult.builder()
+                .status(ImportStatus.COMPLETED)
+                .imported(run.imported)
+                .failed(run.failed)
+                .build();
+        results.accept(completed);
+        log.info("Application import finished for owner {}: {} imported, {} failed",
+                ownerId, run.imported, run.failed);
+        return completed;
+    }
+
+    private ObjectReader reader(ApplicationFileFormat format) {
+        return switch (format) {
+            case CSV -> ApplicationCsv.MAPPER.readerFor(ApplicationRequest.class).with(CSV_SCHEMA);
+            case NDJSON -> objectMapper.readerFor(ApplicationRequest.class);
+        };
+    }
+
+    /**
+     * Loads one chunk with COPY and returns the ids assigned to its rows, in order.
+     */
+    private List<Long> copyChunk(Long ownerId, List<ApplicationRequest> requests) {
+        return transactionTemplate.execute(status -> {
+            List<Long> ids = allocateIds(requests.size());
+            String now = LocalDateTime.now().toString();
+            jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+                CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_APPLICATIONS);
+                try {
+                    StringBuilder line = new StringBuilder(256);
+                    for (int i = 0; i < requests.size(); i++) {
+                        line.setLength(0);
+                        appendRow(line, ids.get(i), ownerId, requests.get(i), now);
+                        byte[] bytes = line.toString().getBytes(StandardCharsets.UTF_8);
+                        copyIn.writeToCopy(bytes, 0, bytes.length);
+                    }
+                    return copyIn.endCopy();
+                } finally {
+                    if (copyIn.isActive()) {
+                        copyIn.cancelCopy();
+                    }
+                }
+            });
+            applicationCountService.increment(ownerId, ApplicationStatus.APPLIED, ids.size());
+            return ids;
+        });
+    }
+
+    /**
+     * Reserves count ids. Unused ids of the last block are skipped, as when an
+     * instance using pooled-lo shuts down.
+     */
+    private List<Long> allocateIds(int count) {
+        int blocks = (count + ID_BLOCK_SIZE - 1) / ID_BLOCK_SIZE;
+        List<Long> ids = new ArrayList<>(count);
+        for (long low : jdbcTemplate.queryForList(ALLOCATE_IDS, Long.class, blocks)) {
+            for (int i = 0; i < ID_BLOCK_SIZE && ids.size() < count; i++) {
+                ids.add(low + i);
+            }
+        }
+        return ids;
+    }
+
+    /** Appends one row in COPY's CSV format, where an unquoted empty field is NULL */
+    static void appendRow(StringBuilder line, Long id, Long ownerId, ApplicationRequest request, String now) {
+        line.append(id).append(',').append(ownerId).append(',');
+        appendQuoted(line, request.getCompanyName());
+        line.append(',');
+        appendQuoted(line, request.getJobTitle());
+        line.append(',').append(request.getDateApplied()).append(',').append(ApplicationStatus.APPLIED).append(',');
+        appendQuoted(line, request.getJobUrl());
+        line.append(',');
+        appendQuoted(line, request.getNotes());
+        line.append(',').append(now).append(',').append(now).append('\n');
+    }
+
+    private static void appendQuoted(StringBuilder line, String value) {
+        if (value != null) {
+            line.append('"').append(value.replace("\"", "\"\"")).append('"');
+        }
+    }
+
+    private static String mappingError(JsonMappingException e) {
+        String field = e.getPath().stream()
+                .map(JsonMappingException.Reference::getFieldName)
+                .filter(Objects::nonNull)
+                .collect(Collectors.joining("."));
+        return field.isEmpty() ? "Unreadable row" : field + ": Invalid value";
+    }
+
+    /** State of one import: the pending chunk and the running totals */
+    private final class ImportRun {
+        private final Long ownerId;
+        private final Consumer<ApplicationImportResult> results;
+        private final List<Long> rows = new ArrayList<>(CHUNK_SIZE);
+        private final List<ApplicationRequest> requests = new ArrayList<>(CHUNK_SIZE);
+        private long imported;
+        private long failed;
+
+        ImportRun(Long ownerId, Consumer<ApplicationImportResult> results) {
+            this.ownerId = ownerId;
+            this.results = results;
+        }
+
+        void accept(long row, ApplicationRequest request) {
+            if (request == null) {
+                fail(row, "Application is required");
+                return;
+            }
+            Set<ConstraintViolation<ApplicationRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                fail(row, violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining(", ")));
+                return;
+            }
+            rows.add(row);
+            requests.add(request);
+            if (requests.size() == CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        void fail(long row, String error) {
+            failed++;
+            results.accept(ApplicationImportResult.builder()
+                    .status(ImportStatus.FAILED)
+                    .row(row)
+                    .error(error)
+                    .build());
+        }
+
+        /**
+         * Loads the pending chunk. Rows rejected by validation have already been
+         * reported, so results stay in input order only within each chunk.
+         */
+        void flush() {
+            if (requests.isEmpty()) {
+                return;
+            }
+            try {
+                List<Long> ids = copyChunk(ownerId, requests);
+                for (int i = 0; i < ids.size(); i++) {
+                    imported++;
+                    results.accept(ApplicationImportResult.builder()
+                            .status(ImportStatus.IMPORTED)
+                            .row(rows.get(i))
+                            .id(ids.get(i))
+                            .build());
+                }
+            } catch (DataAccessException e) {
+                log.warn("Application import chunk of {} rows failed for owner {}", requests.size(), ownerId, e);
+                rows.forEach(row -> fail(row, "Row could not be stored"));
+            } finally {
+                rows.clear();
+                requests.clear();
+            }
+        }
+    }
+}
@@ -4,27 +4,54 @@ import com.ats.api.dto.request.ApplicationRequest;
 import com.ats.api.dto.request.ApplicationStatusUpdateRequest;
 import com.ats.api.dto.response.ApplicationDetailResponse;
 import com.ats.api.dto.response.ApplicationResponse;
+import com.ats.api.dto.response.CursorPage;
 import com.ats.domain.entity.Application;
 import com.ats.domain.entity.ApplicationStatus;
-import com.ats.domain.entity.ApplicationStatusHistory;
-import com.ats.domain.entity.User;
 import com.ats.domain.repository.ApplicationRepository;
-import com.ats.domain.repository.ApplicationStatusHistoryRepository;
+import com.ats.domain.repository.ApplicationRepositoryCustom.Activity;
+import com.ats.domain.repository.ApplicationRepositoryCustom.StatusTransition;
+import com.ats.domain.repository.ApplicationSpecifications;
+import com.ats.domain.repository.UserRepository;
+import com.ats.exception.ResourceNotFoundException;
+import com.ats.service.ApplicationCountService;
+import com.ats.service.ApplicationCursor;
+import com.ats.service.ApplicationField;
 import com.ats.service.ApplicationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+import jakarta.persistence.Tuple;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
 
 /**
  * Service implementation for managing Applications.
  * Provides methods for creating, retrieving, updating, deleting,
- * and searching applications, as well as updating application status
- * and validating ownership.
+ * and searching applications, as well as updating application status.
+ * Writes of a single application are scoped to its owner in the statement
+ * itself; a missing or foreign id is reported as not found. Details are read
+ * by id, from the second-level cache unless the request must read its own
+ * writes, and checked against the owner; the status history and notes follow
+ * in one statement.
+ * A status change is a single conditional statement that also writes the
+ * history row, so concurrent changes cannot both pass the transition check.
+ * Every change to the number of applications per owner and status is mirrored
+ * in ApplicationCountService within the same transaction; page totals of the
+ * owner-only and status-only listings are read from it instead of count(*).
+ * Searches by company name or job title are backed by trigram indexes.
+ * Full-text search ranks matches in title, company, notes and note content
+ * using a search_vector the database keeps up to date.
+ * Listings limited to a set of fields select those columns into tuples, so no
+ * Application is hydrated or tracked by the persistence context.
  */
 @Slf4j
 @Service
@@ -32,13 +59,16 @@ import java.util.Optional;
 @Transactional
 public class ApplicationServiceImpl implements ApplicationService {
 
+        static final int MAX_CURSOR_PAGE_SIZE = 100;
+
         private final ApplicationRepository applicationRepository;
-        private final ApplicationStatusHistoryRepository statusHistoryRepository;
+        private final UserRepository userRepository;
+        private final ApplicationCountService applicationCountService;
 
         @Override
-        public ApplicationResponse createApplication(User owner, ApplicationRequest request) {
+        public ApplicationResponse createApplication(Long ownerId, ApplicationRequest request) {
                 Application application = Application.builder()
-                                .owner(owner)
+                                .owner(userRepository.getReferenceById(ownerId))
                                 .companyName(request.getCompanyName())
                                 .jobTitle(request.getJobTitle())
                                 .dateApplied(request.getDateApplied())
@@ -48,57 +78,145 @@ public class ApplicationServiceImpl implements ApplicationService {
                                 .build();
 
                 Application saved = applicationRepository.save(application);
+                applicationCountService.increment(ownerId, ApplicationStatus.APPLIED, 1);
                 log.info("Application created: {} at {}", saved.getId(), saved.getCompanyName());
                 return ApplicationResponse.fromEntity(saved);
         }
 
         @Override
         @Transactional(readOnly = true)
-        public Optional<ApplicationDetailResponse> findById(Long id) {
-                return applicationRepository.findById(id)
-                                .map(ApplicationDetailResponse::fromEntity);
+        public ApplicationDetailResponse findDetail(Long id, Long ownerId) {
+                Application application = applicationRepository.findCurrentById(id)
+                                .filter(found -> found.getOwner().getId().equals(ownerId))
+                                .orElseThrow(() -> new ResourceNotFoundException("Application not found: " + id));
+                Activity activity = applicationRepository.findActivity(application);
+                return ApplicationDetailResponse.fromEntity(application, activity.statusHistory(), activity.notes());
         }
 
         @Override
         @Transactional(readOnly = true)
-        public Page<ApplicationResponse> findByOwner(User owner, Pageable pageable) {
-                return applicationRepository.findByOwner(owner, pageable)
+        public Page<ApplicationResponse> findByOwner(Long ownerId, Pageable pageable) {
+                return PageableExecutionUtils.getPage(
+                                applicationRepository.findAllByOwnerId(ownerId, pageable),
+                                pageable,
+                                () -> applicationCountService.countByOwner(ownerId))
                                 .map(ApplicationResponse::fromEntity);
         }
 
         @Override
         @Transactional(readOnly = true)
         public Page<ApplicationResponse> searchApplications(
-                        User owner,
+                        Long ownerId,
                         ApplicationStatus status,
                         String companyName,
+                        String jobTitle,
                         Pageable pageable) {
-                return applicationRepository.searchApplications(owner, status, companyName, pageable)
+                if (!hasTextFilter(companyName, jobTitle)) {
+                        if (status == null) {
+                                return findByOwner(ownerId, pageable);
+                        }
+                        return PageableExecutionUtils.getPage(
+                                        applicationRepository.findAllByOwnerIdAndStatus(ownerId, status, pageable),
+                                        pageable,
+                                        () -> applicationCountService.countByOwnerAndStatus(ownerId, status))
+                                        .map(ApplicationResponse::fromEntity);
+                }
+                return applicationRepository.findAll(
+                                searchFilter(ownerId, status, companyName, jobTitle),
+                                pageable)
                                 .map(ApplicationResponse::fromEntity);
         }
 
         @Override
-        public ApplicationResponse updateApplication(Long id, ApplicationRequest request) {
-                Application application = applicationRepository.findById(id)
-                                .orElseThrow(() -> new IllegalArgumentException("Application not found: " + id));
+        @Transactional(readOnly = true)
+        public Page<ApplicationResponse> findByOwner(Long ownerId, Set<ApplicationField> fields, Pageable pageable) {
+                return searchApplications(ownerId, null, null, null, fields, pageable);
+        }
 
-                application.setCompanyName(request.getCompanyName());
-                application.setJobTitle(request.getJobTitle());
-                application.setDateApplied(request.getDateApplied());
-                application.setJobUrl(request.getJobUrl());
-                application.setNotes(request.getNotes());
+        @Override
+        @Transactional(readOnly = true)
+        public Page<ApplicationResponse> searchApplications(
+                        Long ownerId,
+                        ApplicationStatus status,
+                        String companyName,
+                        String jobTitle,
+                        Set<ApplicationField> fields,
+                        Pageable pageable) {
+                Specification<Application> filter = searchFilter(ownerId, status, companyName, jobTitle);
+                List<Tuple> rows = applicationRepository.findAttributes(
+                                filter,
+                                fields.stream().map(ApplicationField::getProperty).toList(),
+                                pageable);
+                return PageableExecutionUtils.getPage(
+                                rows.stream().map(row -> toResponse(row, fields)).toList(),
+                                pageable,
+                                () -> hasTextFilter(companyName, jobTitle)
+                                                ? applicationRepository.count(filter)
+                                                : countApplications(ownerId, status));
+        }
+
+        @Override
+        @Transactional(readOnly = true)
+        public Page<ApplicationResponse> searchText(Long ownerId, String query, Pageable pageable) {
+                if (query == null || query.isBlank()) {
+                        throw new IllegalArgumentException("Search query is required");
+                }
+                return applicationRepository.searchText(
+                                ownerId,
+                                query.trim(),
+                                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()))
+                                .map(ApplicationResponse::fromEntity);
+        }
+
+        @Override
+        @Transactional(readOnly = true)
+        public CursorPage<ApplicationResponse> findByOwner(Long ownerId, String cursor, int size) {
+                return searchApplications(ownerId, null, null, null, cursor, size);
+        }
+
+        @Override
+        @Transactional(readOnly = true)
+        public CursorPage<ApplicationResponse> searchApplications(
+                        Long ownerId,
+                        ApplicationStatus status,
+                        String companyName,
+                        String jobTitle,
+                        String cursor,
+                        int size) {
+                Limit limit = cursorPageLimit(size);
+                Specification<Application> filter = searchFilter(ownerId, status, companyName, jobTitle);
+                if (cursor != null && !cursor.isBlank()) {
+                        ApplicationCursor after = ApplicationCursor.decode(cursor);
+                        filter = filter.and(ApplicationSpecifications.seekAfter(after.dateApplied(), after.id()));
+                }
+                return toCursorPage(applicationRepository.findPage(filter, limit), size);
+        }
+
+        @Override
+        public ApplicationResponse updateApplication(Long id, Long ownerId, ApplicationRequest request) {
+                applicationRepository.lockCachedApplication(id);
+                Application updated = applicationRepository.updateByIdAndOwnerId(
+                                id,
+                                ownerId,
+                                request.getCompanyName(),
+                                request.getJobTitle(),
+                                request.getDateApplied(),
+                                request.getJobUrl(),
+                                request.getNotes(),
+                                LocalDateTime.now())
+                                .orElseThrow(() -> new ResourceNotFoundException("Application not found: " + id));
 
-                Application updated = applicationRepository.save(application);
                 log.info("Application updated: {}", id);
                 return ApplicationResponse.fromEntity(updated);
         }
 
         @Override
-        public void deleteApplication(Long id) {
-                Application application = applicationRepository.findById(id)
-                                .orElseThrow(() -> new IllegalArgumentException("Application not found: " + id));
+        public void deleteApplication(Long id, Long ownerId) {
+                applicationRepository.lockCachedApplication(id);
+                String status = applicationRepository.deleteByIdAndOwnerId(id, ownerId)
+                                .orElseThrow(() -> new ResourceNotFoundException("Application not found: " + id));
 
-                applicationRepository.delete(application);
+                applicationCountService.increment(ownerId, ApplicationStatus.valueOf(status), -1);
                 log.info("Application deleted: {}", id);
         }
 
@@ -106,45 +224,79 @@ public class ApplicationServiceImpl implements ApplicationService {
         public ApplicationResponse updateApplicationStatus(
                         Long id,
                         ApplicationStatusUpdateRequest request,
-                        User updatedBy) {
-                Application application = applicationRepository.findById(id)
-                                .orElseThrow(() -> new IllegalArgumentException("Application not found: " + id));
-
-                ApplicationStatus oldStatus = application.getStatus();
+                        Long ownerId) {
                 ApplicationStatus newStatus = request.getNewStatus();
+                applicationRepository.lockCachedApplication(id);
+                StatusTransition transition = applicationRepository.transitionStatus(
+                                id,
+                                ownerId,
+                                newStatus.predecessors(),
+                                newStatus,
+                                request.getReason(),
+                                LocalDateTime.now())
+                                .orElseThrow(() -> new ResourceNotFoundException("Application not found: " + id));
 
-                if (!oldStatus.canTransitionTo(newStatus)) {
+                ApplicationStatus oldStatus = transition.previousStatus();
+                if (!transition.applied()) {
                         throw new IllegalStateException(
                                         String.format("Cannot transition from %s to %s", oldStatus, newStatus));
                 }
 
-                application.updateStatus(newStatus);
-                applicationRepository.save(application);
+                applicationCountService.transition(ownerId, oldStatus, newStatus);
+                log.info("Application {} status updated from {} to {}", id, oldStatus, newStatus);
+
+                return ApplicationResponse.fromEntity(transition.application());
+        }
+
+        /** One row more than the page size, to tell whether a next page exists */
+        private static Limit cursorPageLimit(int size) {
+                if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+                        throw new IllegalArgumentException(
+                                        "Page size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+                }
+                return Limit.of(size + 1);
+        }
 
-                // Record in audit trail
-                ApplicationStatusHistory history = ApplicationStatusHistory.builder()
-                                .application(application)
-                                .oldStatus(oldStatus)
-                                .newStatus(newStatus)
-                                .createdBy(updatedBy)
-                                .reason(request.getReason())
+        private static CursorPage<ApplicationResponse> toCursorPage(List<Application> rows, int size) {
+                boolean hasNext = rows.size() > size;
+                List<Application> page = hasNext ? rows.subList(0, size) : rows;
+                return CursorPage.<ApplicationResponse>builder()
+                                .content(page.stream().map(ApplicationResponse::fromEntity).toList())
+                                .size(page.size())
+                                .hasNext(hasNext)
+                                .nextCursor(hasNext ? ApplicationCursor.of(page.get(size - 1)).encode() : null)
                                 .build();
+        }
 
-                statusHistoryRepository.save(history);
-                log.info("Application {} status updated from {} to {}", id, oldStatus, newStatus);
+        /** Page total from the counters, for listings without a text filter */
+        private long countApplications(Long ownerId, ApplicationStatus status) {
+                return status == null
+                                ? applicationCountService.countByOwner(ownerId)
+                                : applicationCountService.countByOwnerAndStatus(ownerId, status);
+        }
 
-                return ApplicationResponse.fromEntity(application);
+        private static boolean hasTextFilter(String companyName, String jobTitle) {
+                return ApplicationSpecifications.containsPattern(companyName) != null
+                                || ApplicationSpecifications.containsPattern(jobTitle) != null;
         }
 
-        @Override
-        @Transactional(readOnly = true)
-        public void validateOwnership(Long applicationId, User user) {
-                Application application = applicationRepository.findById(applicationId)
-                                .orElseThrow(() -> new IllegalArgumentException(
-                                                "Application not found: " + applicationId));
+        /** Only the filters that are set, so the trigram indexes can serve the text filters */
+        private static Specification<Application> searchFilter(
+                        Long ownerId,
+                        ApplicationStatus status,
+                        String companyName,
+                        String jobTitle) {
+                return ApplicationSpecifications.ownedBy(ownerId)
+                                .and(ApplicationSpecifications.hasStatus(status))
+                                .and(ApplicationSpecifications.companyNameContains(companyName))
+                                .and(ApplicationSpecifications.jobTitleContains(jobTitle));
+        }
 
-                if (!application.getOwner().getId().equals(user.getId())) {
-                        throw new IllegalArgumentException("User is not the owner of this application");
+        private static ApplicationResponse toResponse(Tuple row, Set<ApplicationField> fields) {
+                ApplicationResponse response = new ApplicationResponse();
+                for (ApplicationField field : fields) {
+                        field.apply(response, row.get(field.getProperty()));
                 }
+                return response;
         }
-}
\ No newline at end of file
+}
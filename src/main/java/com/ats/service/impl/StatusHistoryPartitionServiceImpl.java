@@ -0,0 +1,181 @@
+package com.ats.service.impl;
+
+import com.ats.service.StatusHistoryPartitionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
+
+/**
+ * Service implementation for the status history partitions.
+ * ------------
+ * Partitions are named application_status_history_YYYY_MM (see the V10
+ * migration). Each change runs in its own transaction:
+ * - only on one instance at a time: the transaction first takes an advisory
+ *   lock and skips the change if another instance holds it
+ * - with a short lock_timeout: a partition change waits for a lock on the
+ *   parent table, and every writer of history would queue behind it. A change
+ *   that times out is retried on the next run
+ * ------------
+ * Creating: an empty table is created LIKE the parent and then attached,
+ * which only takes a SHARE UPDATE EXCLUSIVE lock on the parent, unlike
+ * CREATE TABLE ... PARTITION OF.
+ * ------------
+ * Retiring (app.status-history.retention-months, 0 keeps everything):
+ * 1. The partition's rows are summed up per application into
+ *    application_status_summaries
+ * 2. The partition is detached. It stays as a plain table for archiving
+ *    (e.g. with pg_dump), without foreign keys so that deleting applications
+ *    no longer touches it, unless app.status-history.drop-retired is set
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StatusHistoryPartitionServiceImpl implements StatusHistoryPartitionService {
+
+    private static final String PARENT = "application_status_history";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final String LOCK_TIMEOUT = "5s";
+
+    private static final String FIND_PARTITIONS = """
+            SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = 'application_status_history'::regclass
+            """;
+
+    private static final String ROLL_UP = """
+            INSERT INTO application_status_summaries
+                (application_id, period_start, changes, first_changed_at, last_changed_at, last_status)
+            SELECT application_id, DATE '%s', COUNT(*), MIN(created_at), MAX(created_at),
+                   (array_agg(new_status ORDER BY created_at DESC, id DESC))[1]
+            FROM %s
+            GROUP BY application_id
+            """;
+
+    private static final String FIND_FOREIGN_KEYS =
+            "SELECT conname FROM pg_constraint WHERE conrelid = ?::regclass AND contype = 'f'";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.status-history.premake-months:3}")
+    private int premakeMonths;
+
+    @Value("${app.status-history.retention-months:24}")
+    private int retentionMonths;
+
+    @Value("${app.status-history.drop-retired:false}")
+    private boolean dropRetired;
+
+    @Scheduled(fixedDelayString = "${app.status-history.maintenance-interval:1d}")
+    public void maintain() {
+        YearMonth current = YearMonth.now();
+        createPartitions(current);
+        retirePartitions(current);
+    }
+
+    @Override
+    public int createPartitions(YearMonth current) {
+        TreeSet<YearMonth> existing = findPartitions();
+        int created = 0;
+        for (int ahead = 0; ahead <= premakeMonths; ahead++) {
+            YearMonth month = current.plusMonths(ahead);
+            if (!existing.contains(month) && change(() -> createPartition(month))) {
+                log.info("Status history partition created for {}", month);
+                created++;
+            }
+        }
+        return created;
+    }
+
+    @Override
+    public int retirePartitions(YearMonth current) {
+        if (retentionMonths <= 0) {
+            return 0;
+        }
+        YearMonth horizon = current.minusMonths(retentionMonths);
+        int retired = 0;
+        for (YearMonth month : findPartitions().headSet(horizon)) {
+            if (change(() -> retirePartition(month))) {
+                log.info("Status history partition for {} rolled up and {}", month, dropRetired ? "dropped" : "detached");
+                retired++;
+            }
+        }
+        return retired;
+    }
+
+    static String partitionName(YearMonth month) {
+        return PARENT + "_" + month.format(SUFFIX);
+    }
+
+    /** Months of the attached partitions; tables not following the naming scheme are left alone */
+    private TreeSet<YearMonth> findPartitions() {
+        TreeSet<YearMonth> months = new TreeSet<>();
+        for (String name : jdbcTemplate.queryForList(FIND_PARTITIONS, String.class)) {
+            if (name.startsWith(PARENT + "_")) {
+                try {
+                    months.add(YearMonth.parse(name.substring(PARENT.length() + 1), SUFFIX));
+                } catch (DateTimeParseException ex) {
+                    log.debug("Ignoring status history partition {}", name);
+                }
+            }
+        }
+        return months;
+    }
+
+    private void createPartition(YearMonth month) {
+        String partition = partitionName(month);
+        jdbcTemplate.execute("CREATE TABLE " + partition
+                + " (LIKE " + PARENT + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+        jdbcTemplate.execute("ALTER TABLE " + PARENT + " ATTACH PARTITION " + partition
+                + " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+    }
+
+    private void retirePartition(YearMonth month) {
+        String partition = partitionName(month);
+        jdbcTemplate.update(ROLL_UP.formatted(month.atDay(1), partition));
+        jdbcTemplate.execute("ALTER TABLE " + PARENT + " DETACH PARTITION " + partition);
+        if (dropRetired) {
+            jdbcTemplate.execute("DROP TABLE " + partition);
+            return;
+        }
+        List<String> foreignKeys = jdbcTemplate.queryForList(FIND_FOREIGN_KEYS, String.class, partition);
+        for (String foreignKey : foreignKeys) {
+            jdbcTemplate.execute("ALTER TABLE " + partition + " DROP CONSTRAINT \"" + foreignKey + "\"");
+        }
+    }
+
+    /**
+     * Runs one partition change in its own transaction, unless another
+     * instance is changing partitions.
+     *
+     * @return whether the change was made
+     */
+    private boolean change(Runnable change) {
+        try {
+            Boolean changed = transactionTemplate.execute(status -> {
+                if (!Objects.equals(Boolean.TRUE, jdbcTemplate.queryForObject(
+                        "SELECT pg_try_advisory_xact_lock(hashtext(?))", Boolean.class, PARENT))) {
+                    return false;
+                }
+                jdbcTemplate.execute("SET LOCAL lock_timeout = '" + LOCK_TIMEOUT + "'");
+                change.run();
+                return true;
+            });
+            return Boolean.TRUE.equals(changed);
+        } catch (DataAccessException ex) {
+            log.warn("Status history partition change failed, retrying on the next run: {}", ex.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.ats.service.impl;
+
+import com.ats.api.dto.request.UserRegistrationRequest;
+import com.ats.api.dto.response.BulkUserRegistrationResponse;
+import com.ats.api.dto.response.BulkUserRegistrationResponse.RowResult;
+import com.ats.api.dto.response.BulkUserRegistrationResponse.RowStatus;
+import com.ats.domain.repository.UserRepository;
+import com.ats.security.BulkheadPasswordEncoder;
+import com.ats.service.UserProvisioningService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service implementation for bulk user provisioning.
+ * Rows go through four stages, each failing rows individually:
+ * 1. Bean validation and duplicate detection within the request
+ * 2. Lookup of usernames/emails that already exist (one query per chunk)
+ * 3. Parallel password hashing on the password hashing bulkhead
+ * 4. One multi-row INSERT ... ON CONFLICT DO NOTHING per chunk, each chunk in
+ *    its own transaction; rows lost to a concurrent signup are reported as conflicts
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserProvisioningServiceImpl implements UserProvisioningService {
+
+    static final int CHUNK_SIZE = 500;
+
+    private static final String INSERT_PREFIX = "INSERT INTO users "
+            + "(username, email, password, first_name, last_name, role, enabled, created_at, updated_at) VALUES ";
+    private static final String INSERT_ROW = "(?, ?, ?, ?, ?, ?, true, ?, ?)";
+    private static final String INSERT_SUFFIX = " ON CONFLICT DO NOTHING RETURNING id, username";
+
+    private final UserRepository userRepository;
+    private final BulkheadPasswordEncoder passwordEncoder;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+
+    @Override
+    public BulkUserRegistrationResponse registerAll(List<UserRegistrationRequest> requests) {
+        RowResult[] results = new RowResult[requests.size()];
+        List<Integer> accepted = validate(requests, results);
+        rejectExisting(requests, accepted, results);
+
+        for (int from = 0; from < accepted.size(); from += CHUNK_SIZE) {
+            List<Integer> chunk = accepted.subList(from, Math.min(from + CHUNK_SIZE, accepted.size()));
+            insertChunk(requests, chunk, results);
+        }
+
+        List<RowResult> rows = List.of(results);
+        int created = (int) rows.stream().filter(row -> row.getStatus() == RowStatus.CREATED).count();
+        log.info("Bulk provisioning finished: {} created, {} failed", created, rows.size() - created);
+        return BulkUserRegistrationResponse.builder()
+                .created(created)
+                .failed(rows.size() - created)
+                .results(rows)
+                .build();
+    }
+
+    /**
+     * Validates each row and rejects usernames/emails repeated within the request.
+     * Returns the indexes of the rows that passed.
+     */
+    private List<Integer> validate(List<UserRegistrationRequest> requests, RowResult[] results) {
+        List<Integer> accepted = new ArrayList<>(requests.size());
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            UserRegistrationRequest request = requests.get(i);
+            if (request == null) {
+                results[i] = failed(i, null, "User is required");
+                continue;
+            }
+
+            Set<ConstraintViolation<UserRegistrationRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                String error = violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining(", "));
+                results[i] = failed(i, request.getUsername(), error);
+            } else if (!usernames.add(request.getUsername())) {
+                results[i] = failed(i, request.getUsername(), "Duplicate username in request: " + request.getUsername());
+            } else if (!emails.add(request.getEmail())) {
+                results[i] = failed(i, request.getUsername(), "Duplicate email in request: " + request.getEmail());
+            } else {
+                accepted.add(i);
+            }
+        }
+        return accepted;
+    }
+
+    /**
+     * Fails rows whose username or email is already registered, with the same
+     * messages as single registration. Accepted indexes are removed in place.
+     */
+    private void rejectExisting(List<UserRegistrationRequest> requests, List<Integer> accepted, RowResult[] results) {
+        Set<String> existingUsernames = findExisting(accepted, requests,
+                UserRegistrationRequest::getUsername, userRepository::findExistingUsernames);
+        Set<String> existingEmails = findExisting(accepted, requests,
+                UserRegistrationRequest::getEmail, userRepository::findExistingEmails);
+
+        accepted.removeIf(i -> {
+            UserRegistrationRequest request = requests.get(i);
+            if (existingEmails.contains(request.getEmail())) {
+                results[i] = failed(i, request.getUsername(), "Email already exists: " + request.getEmail());
+                return true;
+            }
+            if (existingUsernames.contains(request.getUsername())) {
+                results[i] = failed(i, request.getUsername(), "Username already exists: " + request.getUsername());
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private Set<String> findExisting(
+            List<Integer> accepted,
+            List<UserRegistrationRequest> requests,
+            Function<UserRegistrationRequest, String> key,
+            Function<List<String>, List<String>> lookup) {
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < accepted.size(); from += CHUNK_SIZE) {
+            List<String> values = accepted.subList(from, Math.min(from + CHUNK_SIZE, accepted.size())).stream()
+                    .map(i -> key.apply(requests.get(i)))
+                    .toList();
+            existing.addAll(lookup.apply(values));
+        }
+        return existing;
+    }
+
+    private void insertChunk(List<UserRegistrationRequest> requests, List<Integer> chunk, RowResult[] results) {
+        List<String> hashes = passwordEncoder.encodeAll(chunk.stream()
+                .map(i -> requests.get(i).getPassword())
+                .toList());
+        String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(chunk.size(), INSERT_ROW)) + INSERT_SUFFIX;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        Map<String, Long> insertedIds = new HashMap<>();
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(
+                sql,
+                statement -> bindChunk(statement, requests, chunk, hashes, now),
+                resultSet -> {
+                    insertedIds.put(resultSet.getString("username"), resultSet.getLong("id"));
+                }));
+
+        for (int i : chunk) {
+            String username = requests.get(i).getUsername();
+            Long id = insertedIds.get(username);
+            results[i] = id != null
+                    ? RowResult.builder().index(i).username(username).status(RowStatus.CREATED).id(id).build()
+                    : failed(i, username, "Username or email already exists");
+        }
+    }
+
+    private static void bindChunk(
+            PreparedStatement statement,
+            List<UserRegistrationRequest> requests,
+            List<Integer> chunk,
+            List<String> hashes,
+            Timestamp now) throws SQLException {
+        int parameter = 1;
+        for (int row = 0; row < chunk.size(); row++) {
+            UserRegistrationRequest request = requests.get(chunk.get(row));
+            statement.setString(parameter++, request.getUsername());
+            statement.setString(parameter++, request.getEmail());
+            statement.setString(parameter++, hashes.get(row));
+            statement.setString(parameter++, request.getFirstName());
+            statement.setString(parameter++, request.getLastName());
+            statement.setString(parameter++, request.getRole().name());
+            statement.setTimestamp(parameter++, now);
+            statement.setTimestamp(parameter++, now);
+        }
+    }
+
+    private static RowResult failed(int index, String username, String error) {
+        return RowResult.builder()
+                .index(index)
+                .username(username)
+                .status(RowStatus.FAILED)
+                .error(error)
+                .build();
+    }
+}
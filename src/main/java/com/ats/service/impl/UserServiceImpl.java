@@ -7,6 +7,9 @@ import com.ats.domain.repository.UserRepository;
 import com.ats.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,16 +29,12 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
 
+    /**
+     * Registers a user with a single INSERT; uniqueness is enforced by the
+     * idx_email/idx_username constraints, which also covers concurrent signups.
+     */
     @Override
     public UserResponse register(UserRegistrationRequest request) {
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw new IllegalArgumentException("Email already exists: " + request.getEmail());
-        }
-
-        if (userRepository.existsByUsername(request.getUsername())) {
-            throw new IllegalArgumentException("Username already exists: " + request.getUsername());
-        }
-
         User user = User.builder()
                 .username(request.getUsername())
                 .email(request.getEmail())
@@ -46,7 +45,12 @@ public class UserServiceImpl implements UserService {
                 .enabled(true)
                 .build();
 
-        User savedUser = userRepository.save(user);
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException ex) {
+            throw translateConflict(ex, request);
+        }
         log.info("User registered successfully: {}", savedUser.getUsername());
         return UserResponse.fromEntity(savedUser);
     }
@@ -81,4 +85,22 @@ public class UserServiceImpl implements UserService {
     public boolean existsByUsername(String username) {
         return userRepository.existsByUsername(username);
     }
-}
\ No newline at end of file
+
+    /**
+     * Maps a unique constraint violation to the message of the conflicting column.
+     */
+    private static IllegalArgumentException translateConflict(
+            DataIntegrityViolationException ex, UserRegistrationRequest request) {
+        String constraint = NestedExceptionUtils.getMostSpecificCause(ex).getMessage();
+        if (ex.getCause() instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+            constraint = violation.getConstraintName();
+        }
+        if (constraint != null && constraint.contains(User.EMAIL_CONSTRAINT)) {
+            return new IllegalArgumentException("Email already exists: " + request.getEmail());
+        }
+        if (constraint != null && constraint.contains(User.USERNAME_CONSTRAINT)) {
+            return new IllegalArgumentException("Username already exists: " + request.getUsername());
+        }
+        throw ex;
+    }
+}
@@ -0,0 +1,83 @@
+-- Status history partitioned by month of created_at, so that old history can
+-- be retired by detaching whole partitions instead of deleting rows, and each
+-- partition's indexes and vacuum only cover one month.
+-- - Partitions are named application_status_history_YYYY_MM and cover
+--   [first day of the month, first day of the next month). This migration
+--   creates them from the oldest row's month to 3 months ahead;
+--   StatusHistoryPartitionService keeps creating them ahead of time.
+-- - There is no default partition: a row for a month without a partition is
+--   refused rather than parked where it would block creating that partition.
+-- - The primary key must contain the partition key, hence (id, created_at).
+--   Ids still come from application_status_history_seq and stay unique.
+-- - idx_created_at is gone: partition bounds prune by created_at. History is
+--   read per application, newest first, from (application_id, created_at).
+-- - Retired partitions are rolled up into application_status_summaries: one
+--   row per application and month with the number of changes and the last
+--   status reached.
+
+ALTER TABLE application_status_history RENAME TO application_status_history_unpartitioned;
+ALTER SEQUENCE application_status_history_seq OWNED BY NONE;
+
+CREATE TABLE application_status_history (
+    id             BIGINT       NOT NULL DEFAULT nextval('application_status_history_seq'),
+    application_id BIGINT       NOT NULL,
+    old_status     VARCHAR(255) NOT NULL
+        CHECK (old_status IN ('APPLIED', 'PHONE_SCREEN', 'INTERVIEW', 'OFFER', 'ACCEPTED', 'REJECTED')),
+    new_status     VARCHAR(255) NOT NULL
+        CHECK (new_status IN ('APPLIED', 'PHONE_SCREEN', 'INTERVIEW', 'OFFER', 'ACCEPTED', 'REJECTED')),
+    created_by     BIGINT       NOT NULL,
+    reason         VARCHAR(500),
+    created_at     TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_application_status_history PRIMARY KEY (id, created_at),
+    CONSTRAINT fk_status_history_application
+        FOREIGN KEY (application_id) REFERENCES applications (id) ON DELETE CASCADE,
+    CONSTRAINT fk_status_history_created_by FOREIGN KEY (created_by) REFERENCES users (id)
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE application_status_history_seq OWNED BY application_status_history.id;
+
+CREATE INDEX idx_status_history_application_created
+    ON application_status_history (application_id, created_at);
+CREATE INDEX idx_status_history_created_by ON application_status_history (created_by);
+
+DO $$
+DECLARE
+    month DATE;
+BEGIN
+    FOR month IN
+        SELECT generate_series(
+                       date_trunc('month', COALESCE(MIN(created_at), localtimestamp)),
+                       date_trunc('month', localtimestamp) + INTERVAL '3 months',
+                       INTERVAL '1 month')::DATE
+        FROM application_status_history_unpartitioned
+    LOOP
+        EXECUTE format(
+                'CREATE TABLE %I PARTITION OF application_status_history FOR VALUES FROM (%L) TO (%L)',
+                'application_status_history_' || to_char(month, 'YYYY_MM'),
+                month,
+                (month + INTERVAL '1 month')::DATE);
+    END LOOP;
+END
+$$;
+
+INSERT INTO application_status_history
+    (id, application_id, old_status, new_status, created_by, reason, created_at)
+SELECT id, application_id, old_status, new_status, created_by, reason, created_at
+FROM application_status_history_unpartitioned;
+
+DROP TABLE application_status_history_unpartitioned;
+
+CREATE TABLE application_status_summaries (
+    application_id   BIGINT       NOT NULL,
+    period_start     DATE         NOT NULL,
+    changes          INTEGER      NOT NULL,
+    first_changed_at TIMESTAMP(6) NOT NULL,
+    last_changed_at  TIMESTAMP(6) NOT NULL,
+    last_status      VARCHAR(255) NOT NULL
+        CHECK (last_status IN ('APPLIED', 'PHONE_SCREEN', 'INTERVIEW', 'OFFER', 'ACCEPTED', 'REJECTED')),
+    CONSTRAINT pk_application_status_summaries PRIMARY KEY (application_id, period_start),
+    CONSTRAINT fk_status_summaries_application
+        FOREIGN KEY (application_id) REFERENCES applications (id) ON DELETE CASCADE
+);
+
+ANALYZE application_status_history;
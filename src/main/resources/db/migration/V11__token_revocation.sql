@@ -0,0 +1,18 @@
+-- Token revocation (see TokenRevocationService):
+-- - users.tokens_revoked_at: cutoff of "revoke all tokens"; tokens issued up
+--   to it are rejected
+-- - revoked_tokens: jtis of single revoked tokens, kept until they expire
+-- Databases generated by Hibernate after revocation was added already have
+-- these objects when they are baselined, hence IF NOT EXISTS.
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS tokens_revoked_at TIMESTAMP(6);
+
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+    token_id   VARCHAR(64)  PRIMARY KEY,
+    username   VARCHAR(100) NOT NULL,
+    expires_at TIMESTAMP(6) NOT NULL,
+    revoked_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_revoked_at ON revoked_tokens (revoked_at);
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_expires_at ON revoked_tokens (expires_at);
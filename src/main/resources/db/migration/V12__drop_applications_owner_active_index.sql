@@ -0,0 +1,5 @@
+-- The partial index over applications in a non-terminal status (V9) served
+-- only the in-progress listing, which has been removed. No other query
+-- repeats its predicate, so it only cost writes.
+
+DROP INDEX IF EXISTS idx_applications_owner_active_date_id;
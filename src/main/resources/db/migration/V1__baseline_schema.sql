@@ -0,0 +1,65 @@
+-- Baseline schema, as previously generated by Hibernate (ddl-auto: update).
+-- Databases created that way are baselined at version 1 (baseline-on-migrate),
+-- so this script only runs on empty databases.
+
+CREATE TABLE users (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username          VARCHAR(100) NOT NULL,
+    email             VARCHAR(255) NOT NULL,
+    password          VARCHAR(255) NOT NULL,
+    first_name        VARCHAR(100),
+    last_name         VARCHAR(100),
+    role              VARCHAR(255) NOT NULL CHECK (role IN ('CANDIDATE', 'RECRUITER')),
+    enabled           BOOLEAN      NOT NULL,
+    created_at        TIMESTAMP(6) NOT NULL,
+    updated_at        TIMESTAMP(6) NOT NULL,
+    CONSTRAINT idx_email UNIQUE (email),
+    CONSTRAINT idx_username UNIQUE (username)
+);
+
+CREATE TABLE applications (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    owner_id     BIGINT        NOT NULL CONSTRAINT fk_applications_owner REFERENCES users (id),
+    company_name VARCHAR(255)  NOT NULL,
+    job_title    VARCHAR(255)  NOT NULL,
+    date_applied DATE          NOT NULL,
+    status       VARCHAR(255)  NOT NULL
+        CHECK (status IN ('APPLIED', 'PHONE_SCREEN', 'INTERVIEW', 'OFFER', 'ACCEPTED', 'REJECTED')),
+    job_url      VARCHAR(1000),
+    notes        VARCHAR(500),
+    created_at   TIMESTAMP(6)  NOT NULL,
+    updated_at   TIMESTAMP(6)  NOT NULL
+);
+
+CREATE INDEX idx_owner_id ON applications (owner_id);
+CREATE INDEX idx_status ON applications (status);
+CREATE INDEX idx_company_name ON applications (company_name);
+CREATE INDEX idx_date_applied ON applications (date_applied);
+
+CREATE TABLE application_status_history (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    application_id BIGINT       NOT NULL CONSTRAINT fk_status_history_application REFERENCES applications (id),
+    old_status     VARCHAR(255) NOT NULL
+        CHECK (old_status IN ('APPLIED', 'PHONE_SCREEN', 'INTERVIEW', 'OFFER', 'ACCEPTED', 'REJECTED')),
+    new_status     VARCHAR(255) NOT NULL
+        CHECK (new_status IN ('APPLIED', 'PHONE_SCREEN', 'INTERVIEW', 'OFFER', 'ACCEPTED', 'REJECTED')),
+    created_by     BIGINT       NOT NULL CONSTRAINT fk_status_history_created_by REFERENCES users (id),
+    reason         VARCHAR(500),
+    created_at     TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_application_id ON application_status_history (application_id);
+CREATE INDEX idx_created_by ON application_status_history (created_by);
+CREATE INDEX idx_created_at ON application_status_history (created_at);
+
+CREATE TABLE application_notes (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    application_id BIGINT       NOT NULL CONSTRAINT fk_notes_application REFERENCES applications (id),
+    created_by     BIGINT       NOT NULL CONSTRAINT fk_notes_created_by REFERENCES users (id),
+    content        TEXT         NOT NULL,
+    created_at     TIMESTAMP(6) NOT NULL,
+    updated_at     TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_application_id_notes ON application_notes (application_id);
+CREATE INDEX idx_created_by_notes ON application_notes (created_by);
@@ -0,0 +1,31 @@
+-- Switch primary keys from IDENTITY to pooled sequences (allocationSize 50).
+-- IDENTITY makes Hibernate execute every INSERT immediately to read the key,
+-- which disables JDBC batching. With a sequence Hibernate reserves 50 ids per
+-- nextval (pooled-lo optimizer) and can batch the inserts.
+-- Each sequence starts after the highest existing id. The column default keeps
+-- plain SQL inserts working; each such call consumes one block of 50.
+
+CREATE SEQUENCE users_seq INCREMENT BY 50;
+CREATE SEQUENCE applications_seq INCREMENT BY 50;
+CREATE SEQUENCE application_status_history_seq INCREMENT BY 50;
+CREATE SEQUENCE application_notes_seq INCREMENT BY 50;
+
+SELECT setval('users_seq', COALESCE((SELECT MAX(id) FROM users), 0) + 1, false);
+SELECT setval('applications_seq', COALESCE((SELECT MAX(id) FROM applications), 0) + 1, false);
+SELECT setval('application_status_history_seq', COALESCE((SELECT MAX(id) FROM application_status_history), 0) + 1, false);
+SELECT setval('application_notes_seq', COALESCE((SELECT MAX(id) FROM application_notes), 0) + 1, false);
+
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE applications ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE application_status_history ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE application_notes ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+ALTER TABLE users ALTER COLUMN id SET DEFAULT nextval('users_seq');
+ALTER TABLE applications ALTER COLUMN id SET DEFAULT nextval('applications_seq');
+ALTER TABLE application_status_history ALTER COLUMN id SET DEFAULT nextval('application_status_history_seq');
+ALTER TABLE application_notes ALTER COLUMN id SET DEFAULT nextval('application_notes_seq');
+
+ALTER SEQUENCE users_seq OWNED BY users.id;
+ALTER SEQUENCE applications_seq OWNED BY applications.id;
+ALTER SEQUENCE application_status_history_seq OWNED BY application_status_history.id;
+ALTER SEQUENCE application_notes_seq OWNED BY application_notes.id;
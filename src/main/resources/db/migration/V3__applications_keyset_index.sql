@@ -0,0 +1,8 @@
+-- Index for keyset pagination of a user's applications, newest first.
+-- Cursor queries seek with (date_applied, id) < (:dateApplied, :id) and read
+-- the next page straight from the index, whatever the depth.
+-- It also serves every lookup by owner_id, so idx_owner_id is dropped.
+
+CREATE INDEX idx_applications_owner_date_id ON applications (owner_id, date_applied DESC, id DESC);
+
+DROP INDEX idx_owner_id;
@@ -0,0 +1,18 @@
+-- Number of applications per owner and status, maintained by the application
+-- service in the same transaction as each insert, delete and status change.
+-- Page totals of the owner-only and status-only listings are read from here
+-- instead of running count(*) over the owner's applications.
+
+CREATE TABLE application_counts (
+    owner_id BIGINT       NOT NULL,
+    status   VARCHAR(255) NOT NULL
+        CHECK (status IN ('APPLIED', 'PHONE_SCREEN', 'INTERVIEW', 'OFFER', 'ACCEPTED', 'REJECTED')),
+    total    BIGINT       NOT NULL,
+    CONSTRAINT pk_application_counts PRIMARY KEY (owner_id, status),
+    CONSTRAINT fk_application_counts_owner FOREIGN KEY (owner_id) REFERENCES users (id) ON DELETE CASCADE
+);
+
+INSERT INTO application_counts (owner_id, status, total)
+SELECT owner_id, status, COUNT(*)
+FROM applications
+GROUP BY owner_id, status;
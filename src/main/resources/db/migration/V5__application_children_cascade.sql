@@ -0,0 +1,31 @@
+-- Status history and notes are removed by the database when their application
+-- is deleted, so an application can be deleted with a single owner-scoped
+-- DELETE instead of loading it and its collections first.
+-- Constraint names differ between databases created by V1 and baselined ones
+-- generated by Hibernate, so the existing constraints are looked up by column.
+
+DO $$
+DECLARE
+    fk RECORD;
+BEGIN
+    FOR fk IN
+        SELECT c.conname, c.conrelid::regclass AS child
+        FROM pg_constraint c
+        JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = c.conkey[1]
+        WHERE c.contype = 'f'
+          AND c.confrelid = 'applications'::regclass
+          AND c.conrelid IN ('application_status_history'::regclass, 'application_notes'::regclass)
+          AND a.attname = 'application_id'
+    LOOP
+        EXECUTE format('ALTER TABLE %s DROP CONSTRAINT %I', fk.child, fk.conname);
+    END LOOP;
+END
+$$;
+
+ALTER TABLE application_status_history
+    ADD CONSTRAINT fk_status_history_application
+        FOREIGN KEY (application_id) REFERENCES applications (id) ON DELETE CASCADE;
+
+ALTER TABLE application_notes
+    ADD CONSTRAINT fk_notes_application
+        FOREIGN KEY (application_id) REFERENCES applications (id) ON DELETE CASCADE;
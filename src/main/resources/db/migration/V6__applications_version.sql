@@ -0,0 +1,4 @@
+-- Optimistic locking version of an application, incremented by every update
+-- (Hibernate's @Version for entity updates, explicitly by native statements).
+
+ALTER TABLE applications ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,17 @@
+-- Substring search on company name and job title. A btree index cannot serve
+-- LIKE '%text%', so idx_company_name is replaced by trigram GIN indexes on the
+-- lowercased columns, which is how the search predicates are written.
+-- btree_gin adds owner_id as the leading column, so one index scan covers
+-- both the owner and the substring condition.
+-- Both extensions are trusted and can be created by the database owner.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
+CREATE INDEX idx_applications_company_name_trgm
+    ON applications USING gin (owner_id, lower(company_name) gin_trgm_ops);
+
+CREATE INDEX idx_applications_job_title_trgm
+    ON applications USING gin (owner_id, lower(job_title) gin_trgm_ops);
+
+DROP INDEX IF EXISTS idx_company_name;
@@ -0,0 +1,92 @@
+-- Full-text search over an application's job title, company name, notes and
+-- the content of its application_notes. The document spans two tables, so it
+-- cannot be a generated column; search_vector is maintained by triggers on
+-- both tables instead, and the application code never writes it.
+-- Weights rank title and company matches (A) above the application's own
+-- notes (B) and above note content (C).
+-- btree_gin (V7) adds owner_id as the leading column of the GIN index, so one
+-- index scan covers both the owner and the text query.
+
+ALTER TABLE applications ADD COLUMN search_vector tsvector NOT NULL DEFAULT ''::tsvector;
+
+CREATE FUNCTION applications_search_vector(
+    p_application_id BIGINT,
+    p_company_name TEXT,
+    p_job_title TEXT,
+    p_notes TEXT)
+RETURNS tsvector
+LANGUAGE sql STABLE
+AS $$
+    SELECT setweight(to_tsvector('english', coalesce(p_job_title, '')), 'A')
+        || setweight(to_tsvector('english', coalesce(p_company_name, '')), 'A')
+        || setweight(to_tsvector('english', coalesce(p_notes, '')), 'B')
+        || setweight(to_tsvector('english', coalesce(
+               (SELECT string_agg(n.content, ' ')
+                FROM application_notes n
+                WHERE n.application_id = p_application_id), '')), 'C')
+$$;
+
+-- Status changes do not touch the searchable columns and skip the trigger.
+CREATE FUNCTION applications_search_vector_trigger()
+RETURNS trigger
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    NEW.search_vector := applications_search_vector(NEW.id, NEW.company_name, NEW.job_title, NEW.notes);
+    RETURN NEW;
+END
+$$;
+
+CREATE TRIGGER trg_applications_search_vector
+    BEFORE INSERT OR UPDATE OF company_name, job_title, notes ON applications
+    FOR EACH ROW EXECUTE FUNCTION applications_search_vector_trigger();
+
+-- Recomputes the parent's vector when a note is added, edited or removed.
+-- When the application itself is deleted the cascaded note deletes find no
+-- parent row and update nothing.
+CREATE FUNCTION application_notes_search_vector_trigger()
+RETURNS trigger
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_application_id BIGINT;
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        v_application_id := OLD.application_id;
+    ELSE
+        v_application_id := NEW.application_id;
+    END IF;
+
+    UPDATE applications a
+    SET search_vector = applications_search_vector(a.id, a.company_name, a.job_title, a.notes)
+    WHERE a.id = v_application_id;
+
+    IF TG_OP = 'UPDATE' AND OLD.application_id <> NEW.application_id THEN
+        UPDATE applications a
+        SET search_vector = applications_search_vector(a.id, a.company_name, a.job_title, a.notes)
+        WHERE a.id = OLD.application_id;
+    END IF;
+    RETURN NULL;
+END
+$$;
+
+CREATE TRIGGER trg_application_notes_search_vector
+    AFTER INSERT OR DELETE OR UPDATE OF content, application_id ON application_notes
+    FOR EACH ROW EXECUTE FUNCTION application_notes_search_vector_trigger();
+
+-- Backfill with one pass over the notes rather than a subquery per row.
+UPDATE applications a
+SET search_vector = setweight(to_tsvector('english', coalesce(a.job_title, '')), 'A')
+    || setweight(to_tsvector('english', coalesce(a.company_name, '')), 'A')
+    || setweight(to_tsvector('english', coalesce(a.notes, '')), 'B')
+    || setweight(to_tsvector('english', coalesce(n.content, '')), 'C')
+FROM applications base
+LEFT JOIN (
+    SELECT application_id, string_agg(content, ' ') AS content
+    FROM application_notes
+    GROUP BY application_id
+) n ON n.application_id = base.id
+WHERE a.id = base.id;
+
+CREATE INDEX idx_applications_search_vector
+    ON applications USING gin (owner_id, search_vector);
@@ -0,0 +1,21 @@
+-- Indexes matched to the shapes of the application listings, which all filter
+-- by owner and read newest first (date_applied DESC, id DESC):
+-- - by status: the (owner_id, status) prefix serves the filter, and the per
+--   status totals of reconciliation; the rest of the key serves the order,
+--   so a page is read straight from the index without a sort.
+-- - in progress: a partial index over the non-terminal statuses (see
+--   ApplicationStatus.isTerminalState) holds only the applications a
+--   candidate is still working on. Its predicate must match the literals of
+--   ApplicationRepository.findActiveByOwnerId for the planner to use it.
+-- No query filters on status or date_applied across all owners, so the
+-- single-column idx_status and idx_date_applied only cost writes.
+
+CREATE INDEX idx_applications_owner_status_date_id
+    ON applications (owner_id, status, date_applied DESC, id DESC);
+
+CREATE INDEX idx_applications_owner_active_date_id
+    ON applications (owner_id, date_applied DESC, id DESC)
+    WHERE status NOT IN ('ACCEPTED', 'REJECTED');
+
+DROP INDEX IF EXISTS idx_status;
+DROP INDEX IF EXISTS idx_date_applied;
@@ -1,6 +1,7 @@
 package com.ats;
 
 import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
 import org.springframework.context.annotation.Bean;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.utility.DockerImageName;
@@ -12,6 +13,7 @@ import org.testcontainers.utility.DockerImageName;
 public class TestContainersConfiguration {
 
     @Bean
+    @ServiceConnection
     public PostgreSQLContainer<?> postgresContainer() {
         PostgreSQLContainer<?> container = new PostgreSQLContainer<>(
                 DockerImageName.parse("postgres:18-alpine"))
@@ -0,0 +1,121 @@
+package com.ats.api.controller;
+
+import com.ats.TestContainersConfiguration;
+import com.ats.api.dto.response.ApplicationImportResult;
+import com.ats.api.dto.response.ApplicationImportResult.ImportStatus;
+import com.ats.domain.entity.User;
+import com.ats.domain.entity.UserRole;
+import com.ats.domain.repository.UserRepository;
+import com.ats.security.AuthenticatedUser;
+import com.ats.security.JwtTokenProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Enumeration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration test of a streamed import against the embedded Tomcat: an
+ * upload arriving slower than the container's default async timeout (30s)
+ * still completes.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "app.security.password-hashing.strength=4")
+@Import(TestContainersConfiguration.class)
+@Testcontainers(disabledWithoutDocker = true)
+public class ApplicationImportTimeoutTest {
+    private static final int ROWS = 8;
+    /** ROWS pauses add up to 40s */
+    private static final Duration ROW_INTERVAL = Duration.ofSeconds(5);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void testSlowImportRunsPastDefaultAsyncTimeout() throws Exception {
+        // Arrange
+        User owner = userRepository.findByUsername("slow_import_owner")
+                .orElseGet(() -> userRepository.save(User.builder()
+                        .username("slow_import_owner")
+                        .email("slow_import_owner@example.com")
+                        .password("{noop}unused")
+                        .role(UserRole.CANDIDATE)
+                        .enabled(true)
+                        .build()));
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/applications/import"))
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokenProvider.generateToken(AuthenticatedUser.from(owner)))
+                .header(HttpHeaders.CONTENT_TYPE, "application/x-ndjson")
+                .POST(HttpRequest.BodyPublishers.ofInputStream(ApplicationImportTimeoutTest::slowRows))
+                .build();
+
+        // Act
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        // Plain HTTP/1.1: with the client's default h2c upgrade attempt, the
+        // container's async timeout never fires and the test would prove nothing
+        try (HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build()) {
+            response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // Assert
+        assertEquals(200, response.statusCode(), response.body());
+        assertTrue(elapsed.compareTo(Duration.ofSeconds(30)) > 0, elapsed::toString);
+        List<String> lines = response.body().lines().toList();
+        ApplicationImportResult completed = objectMapper.readValue(lines.get(lines.size() - 1), ApplicationImportResult.class);
+        assertEquals(ImportStatus.COMPLETED, completed.getStatus());
+        assertEquals(ROWS, completed.getImported());
+        assertEquals(0, completed.getFailed());
+    }
+
+    /** NDJSON rows, each sent after ROW_INTERVAL */
+    private static InputStream slowRows() {
+        return new SequenceInputStream(new Enumeration<>() {
+            private int row;
+
+            @Override
+            public boolean hasMoreElements() {
+                return row < ROWS;
+            }
+
+            @Override
+            public InputStream nextElement() {
+                try {
+                    Thread.sleep(ROW_INTERVAL);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                row++;
+                String line = "{\"companyName\":\"Slow Co " + row + "\",\"jobTitle\":\"Engineer\",\"dateApplied\":\"2026-01-01\"}\n";
+                return new ByteArrayInputStream(line.getBytes(StandardCharsets.UTF_8));
+            }
+        });
+    }
+}
@@ -0,0 +1,108 @@
+package com.ats.api.controller;
+
+import com.ats.TestContainersConfiguration;
+import com.ats.api.dto.request.UserLoginRequest;
+import com.ats.api.dto.request.UserRegistrationRequest;
+import com.ats.domain.entity.UserRole;
+import com.ats.service.UserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration test asserting that a login issues at most one SQL statement:
+ * none for a username in the second-level cache, one otherwise.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "app.security.password-hashing.strength=4"
+})
+@AutoConfigureMockMvc
+@Import(TestContainersConfiguration.class)
+@Testcontainers(disabledWithoutDocker = true)
+public class AuthControllerLoginStatementTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (userService.findByUsername("login_user").isEmpty()) {
+            userService.register(UserRegistrationRequest.builder()
+                    .username("login_user")
+                    .email("login_user@example.com")
+                    .password("Password123!")
+                    .firstName("Login")
+                    .lastName("User")
+                    .role(UserRole.CANDIDATE)
+                    .build());
+        }
+        statistics.clear();
+    }
+
+    @Test
+    void testLoginByCachedUsernameExecutesNoStatement() throws Exception {
+        // Act - setUp cached the user
+        login("login_user");
+
+        // Assert
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testLoginByUncachedUsernameExecutesOneStatement() throws Exception {
+        // Arrange
+        entityManagerFactory.getCache().evictAll();
+
+        // Act
+        login("login_user");
+
+        // Assert
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testLoginByEmailExecutesOneStatement() throws Exception {
+        // Act
+        login("login_user@example.com");
+
+        // Assert
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private void login(String usernameOrEmail) throws Exception {
+        UserLoginRequest request = new UserLoginRequest(usernameOrEmail, "Password123!");
+        mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.user.username").value("login_user"));
+    }
+}
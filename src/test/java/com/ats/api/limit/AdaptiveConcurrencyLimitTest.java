@@ -0,0 +1,75 @@
+package com.ats.api.limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Unit tests for AdaptiveConcurrencyLimit */
+public class AdaptiveConcurrencyLimitTest {
+    private static final long THRESHOLD = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    void testRejectsAtLimit() {
+        // Arrange
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit("test", 2, 1, 10, 0.5, THRESHOLD);
+
+        // Act
+        int first = limit.tryAcquire();
+        int second = limit.tryAcquire();
+        int third = limit.tryAcquire();
+
+        // Assert
+        assertEquals(1, first);
+        assertEquals(2, second);
+        assertEquals(-1, third);
+        assertEquals(1, limit.getRejected());
+        assertEquals(2, limit.getInFlight());
+    }
+
+    @Test
+    void testFastSamplesUnderLoadIncreaseLimit() {
+        // Arrange
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit("test", 4, 1, 5, 0.5, THRESHOLD);
+
+        // Act - busy and fast: grows by one per sample, capped at the maximum
+        limit.onSample(4, THRESHOLD / 2, false, System.nanoTime());
+        limit.onSample(5, THRESHOLD / 2, false, System.nanoTime());
+
+        // Assert
+        assertEquals(5, limit.getLimit());
+    }
+
+    @Test
+    void testIdleSamplesDoNotIncreaseLimit() {
+        // Arrange
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit("test", 10, 1, 100, 0.5, THRESHOLD);
+
+        // Act - fast, but far below the limit: no evidence the limit is too low
+        limit.onSample(1, THRESHOLD / 2, false, System.nanoTime());
+
+        // Assert
+        assertEquals(10, limit.getLimit());
+    }
+
+    @Test
+    void testSlowOrOverloadedSamplesDecreaseLimitOncePerPeriod() {
+        // Arrange
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit("test", 20, 4, 100, 0.5, THRESHOLD);
+        long now = System.nanoTime();
+
+        // Act & Assert
+        limit.onSample(20, THRESHOLD * 2, false, now);
+        assertEquals(10, limit.getLimit());
+
+        limit.onSample(20, THRESHOLD * 2, false, now + 1);
+        assertEquals(10, limit.getLimit(), "second slow sample in the same period is ignored");
+
+        limit.onSample(10, 0, true, now + THRESHOLD);
+        assertEquals(5, limit.getLimit());
+
+        limit.onSample(5, 0, true, now + THRESHOLD * 2);
+        assertEquals(4, limit.getLimit(), "never below the minimum");
+    }
+}
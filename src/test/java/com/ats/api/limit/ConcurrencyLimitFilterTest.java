@@ -0,0 +1,80 @@
+package com.ats.api.limit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/** Unit tests for ConcurrencyLimitFilter */
+@ExtendWith(MockitoExtension.class)
+public class ConcurrencyLimitFilterTest {
+    @Mock
+    private ConcurrencyLimiter concurrencyLimiter;
+
+    private ConcurrencyLimitFilter filter;
+
+    private AdaptiveConcurrencyLimit streamingLimit;
+
+    @BeforeEach
+    void setUp() {
+        filter = new ConcurrencyLimitFilter(concurrencyLimiter, new ObjectMapper().registerModule(new JavaTimeModule()));
+        streamingLimit = new AdaptiveConcurrencyLimit("streaming", 1, 1, 1, 0.9, TimeUnit.HOURS.toNanos(1));
+        when(concurrencyLimiter.isEnabled()).thenReturn(true);
+    }
+
+    @Test
+    void testAsyncRequestHoldsPermitUntilCompleted() throws Exception {
+        // Arrange
+        when(concurrencyLimiter.get(ConcurrencyLimiter.Group.STREAMING)).thenReturn(streamingLimit);
+        MockHttpServletRequest export = request("/api/applications/export");
+        FilterChain startsAsync = (request, response) -> request.startAsync();
+
+        // Act
+        filter.doFilter(export, new MockHttpServletResponse(), startsAsync);
+
+        // Assert - the chain has returned, the export is still being written
+        assertEquals(1, streamingLimit.getInFlight());
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(request("/api/applications/import"), rejected, startsAsync);
+        assertEquals(503, rejected.getStatus());
+
+        ((MockAsyncContext) export.getAsyncContext()).complete();
+        assertEquals(0, streamingLimit.getInFlight());
+        assertEquals(1, streamingLimit.getLimit());
+    }
+
+    @Test
+    void testSynchronousRequestReleasesPermitWhenChainReturns() throws Exception {
+        // Arrange
+        AdaptiveConcurrencyLimit applicationsLimit =
+                new AdaptiveConcurrencyLimit("applications", 10, 2, 20, 0.9, TimeUnit.MILLISECONDS.toNanos(500));
+        when(concurrencyLimiter.get(ConcurrencyLimiter.Group.APPLICATIONS)).thenReturn(applicationsLimit);
+        FilterChain chain = mock(FilterChain.class);
+
+        // Act
+        filter.doFilter(request("/api/applications/42"), new MockHttpServletResponse(), chain);
+
+        // Assert
+        verify(chain).doFilter(any(), any());
+        assertEquals(0, applicationsLimit.getInFlight());
+    }
+
+    private static MockHttpServletRequest request(String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setContextPath("/api");
+        request.setAsyncSupported(true);
+        return request;
+    }
+}
@@ -0,0 +1,60 @@
+package com.ats.config;
+
+import com.ats.domain.entity.User;
+import com.ats.domain.entity.UserRole;
+import com.ats.domain.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/** Unit tests for CustomUserDetailsService */
+@ExtendWith(MockitoExtension.class)
+public class CustomUserDetailsServiceTest {
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private CustomUserDetailsService userDetailsService;
+
+    private User detachedUser;
+    private User managedUser;
+
+    @BeforeEach
+    void setUp() {
+        detachedUser = user();
+        managedUser = user();
+    }
+
+    @Test
+    void testUpdatePasswordChangesManagedUser() {
+        // Arrange
+        when(userRepository.findById(1L)).thenReturn(Optional.of(managedUser));
+
+        // Act
+        User updated = (User) userDetailsService.updatePassword(detachedUser, "new_hash");
+
+        // Assert - flushed on commit, which also invalidates the cached principal
+        assertSame(managedUser, updated);
+        assertEquals("new_hash", managedUser.getPassword());
+        verify(userRepository, never()).save(any());
+    }
+
+    private static User user() {
+        return User.builder()
+                .id(1L)
+                .username("testuser")
+                .email("test@example.com")
+                .password("old_hash")
+                .role(UserRole.CANDIDATE)
+                .enabled(true)
+                .build();
+    }
+}
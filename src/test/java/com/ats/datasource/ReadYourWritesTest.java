@@ -0,0 +1,185 @@
+package com.ats.datasource;
+
+import com.ats.domain.entity.UserRole;
+import com.ats.security.AuthenticatedUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/** Unit tests for ReadYourWrites */
+@ExtendWith(MockitoExtension.class)
+public class ReadYourWritesTest {
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private Connection connection;
+
+    private ReadYourWrites readYourWrites;
+    private AuthenticatedUser user;
+
+    @BeforeEach
+    void setUp() {
+        readYourWrites = new ReadYourWrites(Duration.ofMinutes(1), 100);
+        user = new AuthenticatedUser(1L, "testuser", UserRole.CANDIDATE, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void testPositionsRoundTripAsText() {
+        // Act
+        long position = ReadYourWrites.parse("16/B374D848");
+
+        // Assert
+        assertEquals(0x16B374D848L, position);
+        assertEquals("16/B374D848", ReadYourWrites.format(position));
+        assertEquals("0/0", ReadYourWrites.format(0));
+    }
+
+    @Test
+    void testParseRejectsMalformedPositions() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> ReadYourWrites.parse("16B374D848"));
+        assertThrows(IllegalArgumentException.class, () -> ReadYourWrites.parse("/B374D848"));
+        assertThrows(IllegalArgumentException.class, () -> ReadYourWrites.parse("16/"));
+        assertThrows(IllegalArgumentException.class, () -> ReadYourWrites.parse("16/XYZ"));
+        assertThrows(IllegalArgumentException.class, () -> ReadYourWrites.parse("1/100000000"));
+    }
+
+    @Test
+    void testNothingIsRequiredOutsideRequests() {
+        // Act & Assert
+        assertEquals(0, readYourWrites.requiredPosition());
+    }
+
+    @Test
+    void testCommittedWriteIsRequiredForUserAndReturnedInHeader() throws SQLException {
+        // Arrange
+        authenticate();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Connection primaryPosition = position(0x2A0L);
+        when(primary.getConnection()).thenReturn(connection, primaryPosition);
+
+        // Act
+        try (ReadYourWrites.Scope ignored = readYourWrites.open(0, response)) {
+            TransactionSynchronizationManager.initSynchronization();
+            readYourWrites.trackingWrites(primary).getConnection();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        long nextRequest;
+        try (ReadYourWrites.Scope ignored = readYourWrites.open(0, null)) {
+            nextRequest = readYourWrites.requiredPosition();
+        }
+
+        // Assert
+        assertEquals("0/2A0", response.getHeader(ReadYourWrites.HEADER));
+        assertEquals(0x2A0L, nextRequest);
+    }
+
+    @Test
+    void testReadOnlyTransactionsAreNotTracked() throws SQLException {
+        // Arrange
+        when(primary.getConnection()).thenReturn(connection);
+
+        // Act
+        try (ReadYourWrites.Scope ignored = readYourWrites.open(0, new MockHttpServletResponse())) {
+            TransactionSynchronizationManager.initSynchronization();
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+            readYourWrites.trackingWrites(primary).getConnection();
+
+            // Assert
+            assertTrue(TransactionSynchronizationManager.getSynchronizations().isEmpty());
+        }
+    }
+
+    @Test
+    void testHeaderPositionIsRequiredWhenAheadOfUser() throws SQLException {
+        // Arrange
+        authenticate();
+        Connection primaryPosition = position(0x100L);
+        when(primary.getConnection()).thenReturn(connection, primaryPosition);
+        try (ReadYourWrites.Scope ignored = readYourWrites.open(0, null)) {
+            TransactionSynchronizationManager.initSynchronization();
+            readYourWrites.trackingWrites(primary).getConnection();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Act
+        long withHeader;
+        try (ReadYourWrites.Scope ignored = readYourWrites.open(0x300L, null)) {
+            withHeader = readYourWrites.requiredPosition();
+        }
+        long withOlderHeader;
+        try (ReadYourWrites.Scope ignored = readYourWrites.open(0x80L, null)) {
+            withOlderHeader = readYourWrites.requiredPosition();
+        }
+
+        // Assert
+        assertEquals(0x300L, withHeader);
+        assertEquals(0x100L, withOlderHeader);
+    }
+
+    @Test
+    void testPrimaryOnlyScopeRequiresUnreachablePositionUntilClosed() {
+        // Act
+        long primaryOnly;
+        long afterPrimaryOnly;
+        try (ReadYourWrites.Scope ignored = readYourWrites.open(0x300L, null)) {
+            try (ReadYourWrites.Scope primaryScope = ReadYourWrites.primaryOnly()) {
+                primaryOnly = readYourWrites.requiredPosition();
+            }
+            afterPrimaryOnly = readYourWrites.requiredPosition();
+        }
+
+        // Assert
+        assertEquals(Long.MAX_VALUE, primaryOnly);
+        assertEquals(0x300L, afterPrimaryOnly);
+        assertEquals(0, readYourWrites.requiredPosition());
+    }
+
+    private void authenticate() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    /** Connection answering the WAL position query */
+    private static Connection position(long position) throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong(1)).thenReturn(position);
+        return connection;
+    }
+}
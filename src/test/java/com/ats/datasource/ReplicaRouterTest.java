@@ -0,0 +1,239 @@
+package com.ats.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/** Unit tests for ReplicaRouter */
+@ExtendWith(MockitoExtension.class)
+public class ReplicaRouterTest {
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(500);
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica1;
+
+    @Mock
+    private DataSource replica2;
+
+    @Mock
+    private ReadYourWrites readYourWrites;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replica1Connection;
+
+    @Mock
+    private Connection replica2Connection;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MutableClock clock;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock();
+    }
+
+    @Test
+    void testReadGoesToCaughtUpReplica() throws SQLException {
+        // Arrange
+        ReplicaRouter router = router(Map.of("replica-1", replica1));
+        Connection primaryPosition = position(200);
+        when(primary.getConnection()).thenReturn(primaryPosition);
+        Connection replica1Position = position(100);
+        when(replica1.getConnection()).thenReturn(replica1Position, replica1Connection);
+        when(readYourWrites.requiredPosition()).thenReturn(100L);
+        router.poll();
+
+        // Act
+        Connection connection = router.readOnlyDataSource().getConnection();
+
+        // Assert
+        assertSame(replica1Connection, connection);
+        assertEquals(1, meterRegistry.counter("datasource.replica.reads", "target", "replica").count());
+        assertEquals(100, meterRegistry.get("datasource.replica.lag.bytes").gauge().value());
+    }
+
+    @Test
+    void testReadGoesToPrimaryWhenReplicaIsBehind() throws SQLException {
+        // Arrange
+        ReplicaRouter router = router(Map.of("replica-1", replica1));
+        Connection primaryPosition = position(200);
+        when(primary.getConnection()).thenReturn(primaryPosition, primaryConnection);
+        Connection replica1Position = position(100);
+        when(replica1.getConnection()).thenReturn(replica1Position);
+        when(readYourWrites.requiredPosition()).thenReturn(150L);
+        router.poll();
+
+        // Act
+        Connection connection = router.readOnlyDataSource().getConnection();
+
+        // Assert
+        assertSame(primaryConnection, connection);
+        assertEquals(1, meterRegistry.counter("datasource.replica.reads", "target", "primary").count());
+    }
+
+    @Test
+    void testReadGoesToPrimaryWhenLastPollIsStale() throws SQLException {
+        // Arrange
+        ReplicaRouter router = router(Map.of("replica-1", replica1));
+        Connection primaryPosition = position(200);
+        when(primary.getConnection()).thenReturn(primaryPosition, primaryConnection);
+        Connection replica1Position = position(200);
+        when(replica1.getConnection()).thenReturn(replica1Position);
+        router.poll();
+        clock.advance(POLL_INTERVAL.multipliedBy(3));
+
+        // Act
+        Connection connection = router.readOnlyDataSource().getConnection();
+
+        // Assert
+        assertSame(primaryConnection, connection);
+    }
+
+    @Test
+    void testReadGoesToPrimaryWhenReplicaRefusesConnection() throws SQLException {
+        // Arrange
+        ReplicaRouter router = router(Map.of("replica-1", replica1));
+        Connection primaryPosition = position(200);
+        when(primary.getConnection()).thenReturn(primaryPosition, primaryConnection, primaryConnection);
+        Connection replica1Position = position(200);
+        when(replica1.getConnection()).thenReturn(replica1Position).thenThrow(new SQLException("Connection refused"));
+        router.poll();
+
+        // Act
+        Connection first = router.readOnlyDataSource().getConnection();
+        Connection second = router.readOnlyDataSource().getConnection();
+
+        // Assert
+        assertSame(primaryConnection, first);
+        assertSame(primaryConnection, second);
+        verify(replica1, times(2)).getConnection();
+    }
+
+    @Test
+    void testReadsAlternateBetweenCaughtUpReplicas() throws SQLException {
+        // Arrange
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", replica1);
+        replicas.put("replica-2", replica2);
+        ReplicaRouter router = router(replicas);
+        Connection primaryPosition = position(200);
+        when(primary.getConnection()).thenReturn(primaryPosition);
+        Connection replica1Position = position(200);
+        when(replica1.getConnection()).thenReturn(replica1Position, replica1Connection);
+        Connection replica2Position = position(200);
+        when(replica2.getConnection()).thenReturn(replica2Position, replica2Connection);
+        router.poll();
+
+        // Act
+        Connection first = router.readOnlyDataSource().getConnection();
+        Connection second = router.readOnlyDataSource().getConnection();
+
+        // Assert
+        assertSame(replica1Connection, first);
+        assertSame(replica2Connection, second);
+    }
+
+    @Test
+    void testReadWithCredentialsIsRoutedWithThem() throws SQLException {
+        // Arrange
+        ReplicaRouter router = router(Map.of("replica-1", replica1));
+        Connection primaryPosition = position(200);
+        when(primary.getConnection()).thenReturn(primaryPosition);
+        Connection replica1Position = position(200);
+        when(replica1.getConnection()).thenReturn(replica1Position);
+        when(replica1.getConnection("reporting", "secret")).thenReturn(replica1Connection);
+        router.poll();
+
+        // Act
+        Connection connection = router.readOnlyDataSource().getConnection("reporting", "secret");
+
+        // Assert
+        assertSame(replica1Connection, connection);
+        assertEquals(1, meterRegistry.counter("datasource.replica.reads", "target", "replica").count());
+    }
+
+    @Test
+    void testRefusedCredentialsLeaveReplicaAvailable() throws SQLException {
+        // Arrange
+        ReplicaRouter router = router(Map.of("replica-1", replica1));
+        Connection primaryPosition = position(200);
+        when(primary.getConnection()).thenReturn(primaryPosition);
+        Connection replica1Position = position(200);
+        when(replica1.getConnection()).thenReturn(replica1Position, replica1Connection);
+        when(replica1.getConnection("reporting", "secret")).thenThrow(new SQLFeatureNotSupportedException());
+        router.poll();
+        DataSource readOnly = router.readOnlyDataSource();
+
+        // Act & Assert
+        assertThrows(SQLFeatureNotSupportedException.class, () -> readOnly.getConnection("reporting", "secret"));
+        assertSame(replica1Connection, readOnly.getConnection());
+        verify(primary, never()).getConnection("reporting", "secret");
+    }
+
+    private ReplicaRouter router(Map<String, DataSource> replicas) {
+        return new ReplicaRouter(primary, replicas, readYourWrites, POLL_INTERVAL, clock, meterRegistry);
+    }
+
+    /** Connection answering the position queries of ReplicaRouter.poll() */
+    private static Connection position(long position) throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong(1)).thenReturn(position);
+        return connection;
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package com.ats.datasource;
+
+import com.ats.api.dto.request.ApplicationRequest;
+import com.ats.domain.entity.UserRole;
+import com.ats.security.AuthenticatedUser;
+import com.ats.security.JwtTokenProvider;
+import com.ats.security.TokenRevocationService;
+import com.ats.service.ApplicationService;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.images.builder.Transferable;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration test of replica routing against a primary and a streaming
+ * replica cloned from it with pg_basebackup. Replay on the replica is paused
+ * to simulate lag: reads of a user who just wrote, or that carry the write's
+ * X-Write-LSN, must go to the primary until the replica has replayed it, even
+ * if the second-level cache holds an older copy, and security state such as
+ * token revocations is always read from the primary.
+ */
+@SpringBootTest(properties = {
+        "app.security.password-hashing.strength=4",
+        "app.datasource.replica.poll-interval=1h"
+})
+@Testcontainers(disabledWithoutDocker = true)
+public class ReplicaRoutingTest {
+
+    private static final DockerImageName IMAGE = DockerImageName.parse("postgres:18-alpine");
+    private static final Network NETWORK = Network.newNetwork();
+
+    private static final PostgreSQLContainer<?> PRIMARY = new PostgreSQLContainer<>(IMAGE)
+            .withDatabaseName("ats_test_db")
+            .withUsername("ats_user")
+            .withPassword("ats_password")
+            .withNetwork(NETWORK)
+            .withNetworkAliases("primary")
+            .withCopyToContainer(Transferable.of(
+                    "echo 'host replication all all scram-sha-256' >> \"$PGDATA/pg_hba.conf\"\n"),
+                    "/docker-entrypoint-initdb.d/replication.sh");
+
+    private static final GenericContainer<?> REPLICA = new GenericContainer<>(IMAGE)
+            .withNetwork(NETWORK)
+            .withEnv("PGPASSWORD", "ats_password")
+            .withCreateContainerCmdModifier(cmd -> cmd.withUser("postgres"))
+            .withCommand("sh", "-c", "until pg_basebackup -h primary -U ats_user -D /tmp/replica -R -X stream; "
+                    + "do sleep 1; done; exec postgres -D /tmp/replica")
+            .withExposedPorts(5432)
+            .waitingFor(Wait.forLogMessage(".*ready to accept read-only connections.*", 1)
+                    .withStartupTimeout(Duration.ofMinutes(2)));
+
+    static {
+        PRIMARY.start();
+        REPLICA.start();
+    }
+
+    @DynamicPropertySource
+    static void dataSources(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", PRIMARY::getJdbcUrl);
+        registry.add("spring.datasource.username", PRIMARY::getUsername);
+        registry.add("spring.datasource.password", PRIMARY::getPassword);
+        registry.add("app.datasource.replica.urls", () -> "jdbc:postgresql://" + REPLICA.getHost() + ":"
+                + REPLICA.getMappedPort(5432) + "/" + PRIMARY.getDatabaseName());
+    }
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private ReadYourWrites readYourWrites;
+
+    @Autowired
+    private ReplicaRouter replicaRouter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private AuthenticatedUser owner;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        String username = "routing_owner_" + System.nanoTime();
+        Long id = jdbcTemplate.queryForObject("INSERT INTO users "
+                + "(username, email, password, role, enabled, created_at, updated_at) "
+                + "VALUES (?, ?, '{noop}unused', 'CANDIDATE', true, now(), now()) RETURNING id",
+                Long.class, username, username + "@example.com");
+        owner = new AuthenticatedUser(id, username, UserRole.CANDIDATE, true);
+        awaitReplay();
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        SecurityContextHolder.clearContext();
+        replay("pg_wal_replay_resume()");
+    }
+
+    @Test
+    void testReadOnlyTransactionsRunOnReplica() {
+        // Act
+        Boolean readOnlyInRecovery = inRecovery(true);
+        Boolean readWriteInRecovery = inRecovery(false);
+
+        // Assert
+        assertTrue(readOnlyInRecovery);
+        assertFalse(readWriteInRecovery);
+    }
+
+    @Test
+    void testReadsWaitForReplicaToReplayOwnWrites() throws SQLException {
+        // Arrange
+        replay("pg_wal_replay_pause()");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        authenticate();
+        try (ReadYourWrites.Scope ignored = readYourWrites.open(0, response)) {
+            createApplication();
+        }
+        String writePosition = response.getHeader(ReadYourWrites.HEADER);
+
+        // Act
+        long sameUser;
+        try (ReadYourWrites.Scope ignored = readYourWrites.open(0, null)) {
+            sameUser = countApplications();
+        }
+        SecurityContextHolder.clearContext();
+        long sameHeader;
+        try (ReadYourWrites.Scope ignored = readYourWrites.open(ReadYourWrites.parse(writePosition), null)) {
+            sameHeader = countApplications();
+        }
+        long untracked;
+        try (ReadYourWrites.Scope ignored = readYourWrites.open(0, null)) {
+            untracked = countApplications();
+        }
+
+        // Assert
+        assertNotNull(writePosition);
+        assertEquals(1, sameUser);
+        assertEquals(1, sameHeader);
+        assertEquals(0, untracked);
+    }
+
+    @Test
+    void testReadsReturnToReplicaOnceCaughtUp() throws SQLException, InterruptedException {
+        // Arrange
+        replay("pg_wal_replay_pause()");
+        authenticate();
+        try (ReadYourWrites.Scope ignored = readYourWrites.open(0, null)) {
+            createApplication();
+        }
+        replay("pg_wal_replay_resume()");
+        awaitReplay();
+
+        // Act
+        Boolean inRecovery;
+        long applications;
+        try (ReadYourWrites.Scope ignored = readYourWrites.open(0, null)) {
+            inRecovery = inRecovery(true);
+            applications = countApplications();
+        }
+
+        // Assert
+        assertTrue(inRecovery);
+        assertEquals(1, applications);
+    }
+
+    @Test
+    void testDetailReadWithWritePositionBypassesCachedApplication() throws SQLException {
+        // Arrange - this instance caches the application, then another one updates it
+        Long id = createApplication();
+        applicationService.findDetail(id, owner.id());
+        replay("pg_wal_replay_pause()");
+        jdbcTemplate.update("UPDATE applications SET company_name = 'Elsewhere Co', version = version + 1 "
+                + "WHERE id = ?", id);
+        long writePosition = jdbcTemplate.queryForObject(
+                "SELECT pg_current_wal_lsn() - '0/0'::pg_lsn", Long.class);
+
+        // Act
+        String withHeader;
+        try (ReadYourWrites.Scope ignored = readYourWrites.open(writePosition, null)) {
+            withHeader = applicationService.findDetail(id, owner.id()).getCompanyName();
+        }
+        String untracked;
+        try (ReadYourWrites.Scope ignored = readYourWrites.open(0, null)) {
+            untracked = applicationService.findDetail(id, owner.id()).getCompanyName();
+        }
+
+        // Assert - the header's read refreshed the cached copy
+        assertEquals("Elsewhere Co", withHeader);
+        assertEquals("Elsewhere Co", untracked);
+    }
+
+    @Test
+    void testRevocationSyncReadsPrimary() throws SQLException, InterruptedException {
+        // Arrange - another instance revokes while the replica lags
+        replay("pg_wal_replay_pause()");
+        Claims claims = tokenProvider.getVerifiedClaims(tokenProvider.generateToken(owner)).orElseThrow();
+        Thread.sleep(10);
+        jdbcTemplate.update("UPDATE users SET tokens_revoked_at = ? WHERE id = ?", LocalDateTime.now(), owner.id());
+
+        // Act
+        tokenRevocationService.sync();
+
+        // Assert
+        assertTrue(tokenRevocationService.isRevoked(claims));
+    }
+
+    private void authenticate() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(owner, null, owner.getAuthorities()));
+    }
+
+    private Long createApplication() {
+        return applicationService.createApplication(owner.id(), ApplicationRequest.builder()
+                .companyName("Replica Co")
+                .jobTitle("Engineer")
+                .dateApplied(LocalDate.of(2026, 1, 1))
+                .build()).getId();
+    }
+
+    /** Applications of the owner as listed by the (read-only) service */
+    private long countApplications() {
+        return applicationService.findByOwner(owner.id(), PageRequest.of(0, 10)).getContent().size();
+    }
+
+    private Boolean inRecovery(boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> jdbcTemplate.queryForObject("SELECT pg_is_in_recovery()", Boolean.class));
+    }
+
+    /** Polls until the replica has replayed everything written so far */
+    private void awaitReplay() throws InterruptedException {
+        long target = jdbcTemplate.queryForObject("SELECT pg_current_wal_lsn() - '0/0'::pg_lsn", Long.class);
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        try (ReadYourWrites.Scope ignored = readYourWrites.open(target, null)) {
+            while (true) {
+                replicaRouter.poll();
+                if (Boolean.TRUE.equals(inRecovery(true))) {
+                    return;
+                }
+                assertTrue(System.nanoTime() < deadline, "Replica did not catch up");
+                Thread.sleep(20);
+            }
+        }
+    }
+
+    private void replay(String function) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(
+                "jdbc:postgresql://" + REPLICA.getHost() + ":" + REPLICA.getMappedPort(5432) + "/"
+                        + PRIMARY.getDatabaseName(), PRIMARY.getUsername(), PRIMARY.getPassword());
+             Statement statement = connection.createStatement()) {
+            statement.execute("SELECT " + function);
+        }
+    }
+}
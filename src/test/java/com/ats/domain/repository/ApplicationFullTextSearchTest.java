@@ -0,0 +1,149 @@
+package com.ats.domain.repository;
+
+import com.ats.TestContainersConfiguration;
+import com.ats.api.dto.request.ApplicationRequest;
+import com.ats.api.dto.request.ApplicationStatusUpdateRequest;
+import com.ats.api.dto.response.ApplicationResponse;
+import com.ats.domain.entity.ApplicationNote;
+import com.ats.domain.entity.ApplicationStatus;
+import com.ats.domain.entity.User;
+import com.ats.domain.entity.UserRole;
+import com.ats.service.ApplicationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration test of full-text search. The search_vector is maintained by
+ * triggers, so these checks only hold against the migrated schema: changes to
+ * an application or its notes must be searchable immediately, and matches in
+ * the title must rank above matches in note content.
+ */
+@SpringBootTest(properties = "app.security.password-hashing.strength=4")
+@Import(TestContainersConfiguration.class)
+@Testcontainers(disabledWithoutDocker = true)
+public class ApplicationFullTextSearchTest {
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private ApplicationNoteRepository noteRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.findByUsername("fulltext_owner")
+                .orElseGet(() -> userRepository.save(User.builder()
+                        .username("fulltext_owner")
+                        .email("fulltext_owner@example.com")
+                        .password("{noop}unused")
+                        .role(UserRole.CANDIDATE)
+                        .enabled(true)
+                        .build()));
+        jdbcTemplate.update("DELETE FROM applications WHERE owner_id = ?", owner.getId());
+        jdbcTemplate.update("DELETE FROM application_counts WHERE owner_id = ?", owner.getId());
+    }
+
+    @Test
+    void testNoteContentIsSearchable() {
+        // Arrange
+        Long id = createApplication("Acme", "Backend Engineer", null);
+        ApplicationNote note = addNote(id, "They mentioned migrating everything to Kubernetes next year");
+
+        // Act & Assert - stemmed, so "migrate" finds "migrating"
+        assertEquals(List.of(id), search("kubernetes"));
+        assertEquals(List.of(id), search("migrate kubernetes"));
+        assertEquals(List.of(), search("kubernetes -migrating"));
+
+        note.setContent("No platform details yet");
+        noteRepository.save(note);
+        assertEquals(List.of(), search("kubernetes"));
+        assertEquals(List.of(id), search("platform"));
+
+        noteRepository.delete(note);
+        assertEquals(List.of(), search("platform"));
+    }
+
+    @Test
+    void testApplicationChangesAreSearchable() {
+        // Arrange
+        Long id = createApplication("Initech", "Data Analyst", "Referral from a friend");
+
+        // Act
+        applicationService.updateApplication(id, owner.getId(), ApplicationRequest.builder()
+                .companyName("Initech")
+                .jobTitle("Platform Engineer")
+                .dateApplied(LocalDate.of(2026, 1, 1))
+                .notes("Referral from a friend")
+                .build());
+        applicationService.updateApplicationStatus(id, ApplicationStatusUpdateRequest.builder()
+                .newStatus(ApplicationStatus.PHONE_SCREEN)
+                .build(), owner.getId());
+
+        // Assert
+        assertEquals(List.of(), search("analyst"));
+        assertEquals(List.of(id), search("platform engineer"));
+        assertEquals(List.of(id), search("\"from a friend\""));
+    }
+
+    @Test
+    void testTitleMatchesRankAboveNoteMatches() {
+        // Arrange - the note match is the newer application
+        Long titleMatch = createApplication("Globex", "Kubernetes Administrator", null);
+        Long noteMatch = createApplication("Hooli", "Site Reliability Engineer", null);
+        addNote(noteMatch, "Team runs Kubernetes");
+        createApplication("Umbrella", "Java Developer", null);
+
+        // Act & Assert
+        assertEquals(List.of(titleMatch, noteMatch), search("kubernetes"));
+        assertEquals(List.of(), searchAs(owner.getId() + 1_000_000, "kubernetes"));
+    }
+
+    private Long createApplication(String companyName, String jobTitle, String notes) {
+        return applicationService.createApplication(owner.getId(), ApplicationRequest.builder()
+                .companyName(companyName)
+                .jobTitle(jobTitle)
+                .dateApplied(LocalDate.of(2026, 1, 1))
+                .notes(notes)
+                .build()).getId();
+    }
+
+    private ApplicationNote addNote(Long applicationId, String content) {
+        return noteRepository.save(ApplicationNote.builder()
+                .application(applicationRepository.findById(applicationId).orElseThrow())
+                .createdBy(owner)
+                .content(content)
+                .build());
+    }
+
+    private List<Long> search(String query) {
+        return searchAs(owner.getId(), query);
+    }
+
+    private List<Long> searchAs(Long ownerId, String query) {
+        return applicationService.searchText(ownerId, query, PageRequest.of(0, 10)).stream()
+                .map(ApplicationResponse::getId)
+                .toList();
+    }
+}
@@ -0,0 +1,33 @@
+package com.ats.domain.repository;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Unit tests for ApplicationSpecifications */
+public class ApplicationSpecificationsTest {
+
+    @Test
+    void testContainsPatternLowercasesAndTrims() {
+        // Act & Assert
+        assertEquals("%tech corp%", ApplicationSpecifications.containsPattern("  Tech Corp "));
+    }
+
+    @Test
+    void testContainsPatternEscapesWildcards() {
+        // Act & Assert - user input must not match more than its literal text
+        assertEquals("%100\\%%", ApplicationSpecifications.containsPattern("100%"));
+        assertEquals("%a\\_b%", ApplicationSpecifications.containsPattern("a_b"));
+        assertEquals("%c:\\\\dir%", ApplicationSpecifications.containsPattern("C:\\dir"));
+    }
+
+    @Test
+    void testBlankTextIsNoFilter() {
+        // Act & Assert
+        assertNull(ApplicationSpecifications.containsPattern(null));
+        assertNull(ApplicationSpecifications.containsPattern("  "));
+        assertNull(ApplicationSpecifications.companyNameContains(""));
+        assertNull(ApplicationSpecifications.hasStatus(null));
+        assertNull(ApplicationSpecifications.seekAfter(null, null));
+    }
+}
@@ -0,0 +1,152 @@
+package com.ats.domain.repository;
+
+import com.ats.TestContainersConfiguration;
+import com.ats.api.dto.request.ApplicationRequest;
+import com.ats.api.dto.request.ApplicationStatusUpdateRequest;
+import com.ats.domain.entity.Application;
+import com.ats.domain.entity.ApplicationStatus;
+import com.ats.domain.entity.User;
+import com.ats.domain.entity.UserRole;
+import com.ats.service.ApplicationCountService;
+import com.ats.service.ApplicationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration test racing status transitions of the same application.
+ * Exactly one of the concurrent requests may change the status and write a
+ * history row; the others must see the changed status and be refused.
+ */
+@SpringBootTest(properties = "app.security.password-hashing.strength=4")
+@Import(TestContainersConfiguration.class)
+@Testcontainers(disabledWithoutDocker = true)
+public class ApplicationStatusTransitionConcurrencyTest {
+    private static final int THREADS = 8;
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private ApplicationCountService applicationCountService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long ownerId;
+
+    @BeforeEach
+    void setUp() {
+        ownerId = userRepository.findByUsername("transition_owner")
+                .orElseGet(() -> userRepository.save(User.builder()
+                        .username("transition_owner")
+                        .email("transition_owner@example.com")
+                        .password("{noop}unused")
+                        .role(UserRole.CANDIDATE)
+                        .enabled(true)
+                        .build()))
+                .getId();
+    }
+
+    @Test
+    void testConcurrentTransitionsApplyExactlyOnce() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                // Arrange - every request moves APPLIED to PHONE_SCREEN, which is
+                // refused once the application is in PHONE_SCREEN
+                Long id = createApplication(round);
+                long screenedBefore = applicationCountService.countByOwnerAndStatus(ownerId, ApplicationStatus.PHONE_SCREEN);
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<Boolean>> results = new ArrayList<>();
+                for (int i = 0; i < THREADS; i++) {
+                    results.add(executor.submit(transition(start, id, ApplicationStatus.PHONE_SCREEN)));
+                }
+
+                // Act
+                start.countDown();
+                int applied = 0;
+                for (Future<Boolean> result : results) {
+                    applied += result.get() ? 1 : 0;
+                }
+
+                // Assert
+                assertEquals(1, applied, "round " + round);
+                assertEquals(1, jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM application_status_history WHERE application_id = ?", Integer.class, id));
+                assertEquals(screenedBefore + 1,
+                        applicationCountService.countByOwnerAndStatus(ownerId, ApplicationStatus.PHONE_SCREEN));
+                assertEquals(1L, applicationRepository.findById(id).orElseThrow().getVersion());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testStaleEntityUpdateIsRejected() {
+        // Arrange - two copies of the same version
+        Long id = createApplication(-1);
+        Application first = applicationRepository.findById(id).orElseThrow();
+        Application second = applicationRepository.findById(id).orElseThrow();
+        first.setNotes("first");
+        transactionTemplate.executeWithoutResult(status -> applicationRepository.save(first));
+
+        // Act & Assert
+        second.setNotes("second");
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> transactionTemplate.executeWithoutResult(status -> applicationRepository.save(second)));
+        assertEquals("first", applicationRepository.findById(id).orElseThrow().getNotes());
+    }
+
+    private Long createApplication(int round) {
+        return applicationService.createApplication(ownerId, ApplicationRequest.builder()
+                .companyName("Race " + round)
+                .jobTitle("Engineer")
+                .dateApplied(LocalDate.of(2026, 1, 1))
+                .build()).getId();
+    }
+
+    /** @return whether this request changed the status */
+    private Callable<Boolean> transition(CountDownLatch start, Long id, ApplicationStatus target) {
+        return () -> {
+            start.await();
+            try {
+                applicationService.updateApplicationStatus(id, ApplicationStatusUpdateRequest.builder()
+                        .newStatus(target)
+                        .reason("race")
+                        .build(), ownerId);
+                return true;
+            } catch (IllegalStateException e) {
+                return false;
+            }
+        };
+    }
+}
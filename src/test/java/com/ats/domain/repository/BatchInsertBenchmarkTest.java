@@ -0,0 +1,93 @@
+package com.ats.domain.repository;
+
+import com.ats.TestContainersConfiguration;
+import com.ats.domain.entity.Application;
+import com.ats.domain.entity.ApplicationStatus;
+import com.ats.domain.entity.User;
+import com.ats.domain.entity.UserRole;
+import com.ats.support.JdbcRoundTripCounter;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Benchmark of JDBC round trips per insert, with and without batching.
+ * "Unbatched" (batch size 1) matches the former IDENTITY behaviour, where every
+ * INSERT had to execute immediately to read the generated key.
+ */
+@Slf4j
+@SpringBootTest(properties = "app.security.password-hashing.strength=4")
+@Import({TestContainersConfiguration.class, JdbcRoundTripCounter.class})
+@Testcontainers(disabledWithoutDocker = true)
+public class BatchInsertBenchmarkTest {
+    private static final int ROWS = 1_000;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long ownerId;
+
+    @BeforeEach
+    void setUp() {
+        ownerId = userRepository.findByUsername("batch_owner")
+                .orElseGet(() -> userRepository.save(User.builder()
+                        .username("batch_owner")
+                        .email("batch_owner@example.com")
+                        .password("{noop}unused")
+                        .role(UserRole.CANDIDATE)
+                        .enabled(true)
+                        .build()))
+                .getId();
+    }
+
+    @Test
+    void testBatchedInsertsNeedFarFewerRoundTrips() {
+        // Act
+        long unbatched = insertApplications(1);
+        long batched = insertApplications(50);
+
+        // Assert
+        log.info("{} inserts: {} round trips unbatched ({} per row), {} batched ({} per row)",
+                ROWS, unbatched, (double) unbatched / ROWS, batched, (double) batched / ROWS);
+        assertTrue(unbatched >= ROWS, "unbatched: " + unbatched);
+        // 20 batches of 50 rows plus 20 sequence calls (one per 50 ids), with slack
+        assertTrue(batched <= ROWS / 50 * 2 + 5, "batched: " + batched);
+    }
+
+    private long insertApplications(int batchSize) {
+        JdbcRoundTripCounter.reset();
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            User owner = entityManager.getReference(User.class, ownerId);
+            for (int i = 0; i < ROWS; i++) {
+                entityManager.persist(Application.builder()
+                        .owner(owner)
+                        .companyName("Company " + i)
+                        .jobTitle("Engineer")
+                        .dateApplied(LocalDate.now())
+                        .status(ApplicationStatus.APPLIED)
+                        .build());
+            }
+            entityManager.flush();
+            entityManager.clear();
+        });
+        return JdbcRoundTripCounter.count();
+    }
+}
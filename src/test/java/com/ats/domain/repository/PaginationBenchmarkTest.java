@@ -0,0 +1,131 @@
+package com.ats.domain.repository;
+
+import com.ats.TestContainersConfiguration;
+import com.ats.api.dto.response.ApplicationResponse;
+import com.ats.api.dto.response.CursorPage;
+import com.ats.domain.entity.User;
+import com.ats.domain.entity.UserRole;
+import com.ats.service.ApplicationCursor;
+import com.ats.service.ApplicationFileFormat;
+import com.ats.service.ApplicationImportService;
+import com.ats.service.ApplicationService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Benchmark of page 1 and page 1000 latency, offset vs cursor pagination.
+ * Offset pages scan and discard every preceding row and run a count query;
+ * cursor pages seek into idx_applications_owner_date_id.
+ */
+@Slf4j
+@SpringBootTest(properties = "app.security.password-hashing.strength=4")
+@Import(TestContainersConfiguration.class)
+@Testcontainers(disabledWithoutDocker = true)
+public class PaginationBenchmarkTest {
+    private static final int PAGE_SIZE = 20;
+    private static final int DEEP_PAGE = 1000;
+    private static final int ROWS = PAGE_SIZE * DEEP_PAGE;
+    private static final int RUNS = 15;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private ApplicationImportService applicationImportService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long ownerId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ownerId = userRepository.findByUsername("pagination_owner")
+                .orElseGet(() -> userRepository.save(User.builder()
+                        .username("pagination_owner")
+                        .email("pagination_owner@example.com")
+                        .password("{noop}unused")
+                        .role(UserRole.CANDIDATE)
+                        .enabled(true)
+                        .build()))
+                .getId();
+        if (applicationRepository.findByOwnerId(ownerId, PageRequest.of(0, 1)).getTotalElements() >= ROWS) {
+            return;
+        }
+
+        StringBuilder ndjson = new StringBuilder();
+        LocalDate start = LocalDate.of(2020, 1, 1);
+        for (int i = 0; i < ROWS; i++) {
+            // Several applications per day, so ties on dateApplied are broken by id
+            ndjson.append("{\"companyName\":\"Company ").append(i)
+                    .append("\",\"jobTitle\":\"Engineer\",\"dateApplied\":\"")
+                    .append(start.plusDays(i / 10)).append("\"}\n");
+        }
+        applicationImportService.importApplications(
+                ownerId,
+                new ByteArrayInputStream(ndjson.toString().getBytes(StandardCharsets.UTF_8)),
+                ApplicationFileFormat.NDJSON,
+                result -> {
+                });
+    }
+
+    @Test
+    void testCursorPagesCostTheSameAtAnyDepth() {
+        // Arrange - the cursor of page 1000 is the last row of page 999
+        Page<ApplicationResponse> previous = offsetPage(DEEP_PAGE - 2);
+        ApplicationResponse last = previous.getContent().getLast();
+        String deepCursor = new ApplicationCursor(last.getDateApplied(), last.getId()).encode();
+
+        // Act
+        long offsetFirst = medianMicros(() -> offsetPage(0));
+        long offsetDeep = medianMicros(() -> offsetPage(DEEP_PAGE - 1));
+        long cursorFirst = medianMicros(() -> applicationService.findByOwner(ownerId, null, PAGE_SIZE));
+        long cursorDeep = medianMicros(() -> applicationService.findByOwner(ownerId, deepCursor, PAGE_SIZE));
+
+        // Assert
+        log.info("Page 1 / page {} (median of {} runs): offset {} us / {} us, cursor {} us / {} us",
+                DEEP_PAGE, RUNS, offsetFirst, offsetDeep, cursorFirst, cursorDeep);
+        Page<ApplicationResponse> offsetResult = offsetPage(DEEP_PAGE - 1);
+        CursorPage<ApplicationResponse> cursorResult = applicationService.findByOwner(ownerId, deepCursor, PAGE_SIZE);
+        assertEquals(offsetResult.getContent(), cursorResult.getContent());
+        assertTrue(cursorDeep < offsetDeep, "cursor " + cursorDeep + " us, offset " + offsetDeep + " us");
+    }
+
+    private Page<ApplicationResponse> offsetPage(int page) {
+        return applicationService.findByOwner(ownerId, PageRequest.of(page, PAGE_SIZE,
+                Sort.by(Sort.Direction.DESC, "dateApplied").and(Sort.by(Sort.Direction.DESC, "id"))));
+    }
+
+    private static long medianMicros(Supplier<?> query) {
+        for (int i = 0; i < 5; i++) {
+            query.get();
+        }
+        long[] micros = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            query.get();
+            micros[i] = (System.nanoTime() - start) / 1_000;
+        }
+        Arrays.sort(micros);
+        return micros[RUNS / 2];
+    }
+}
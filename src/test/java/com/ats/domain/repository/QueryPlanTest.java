@@ -0,0 +1,286 @@
+package com.ats.domain.repository;
+
+import com.ats.TestContainersConfiguration;
+import com.ats.api.dto.request.ApplicationRequest;
+import com.ats.api.dto.request.ApplicationStatusUpdateRequest;
+import com.ats.domain.entity.ApplicationStatus;
+import com.ats.service.ApplicationCountService;
+import com.ats.service.ApplicationExportService;
+import com.ats.service.ApplicationField;
+import com.ats.service.ApplicationFileFormat;
+import com.ats.service.ApplicationService;
+import com.ats.support.QueryPlanRecorder;
+import com.ats.support.QueryPlanRecorder.RecordedStatement;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Plan regression tests for the statements the application sends.
+ * Each test runs service and repository calls against a generated dataset
+ * and records the executed statements and replays them under EXPLAIN with the
+ * same parameters. Every statement must be served by indexes; listings must
+ * also read their page in index order, without a sort.
+ * The owner under test has thousands of applications among many small
+ * owners: for a few hundred rows, sorting them all is cheap and the planner
+ * rightly prefers it, but the cost of a sort grows with the owner.
+ */
+@SpringBootTest(properties = "app.security.password-hashing.strength=4")
+@Import({TestContainersConfiguration.class, QueryPlanRecorder.class})
+@Testcontainers(disabledWithoutDocker = true)
+public class QueryPlanTest {
+    private static final int OWNERS = 400;
+    private static final int APPLICATIONS_PER_OWNER = 250;
+    /** Applications of plan_owner_1, the owner under test */
+    private static final int APPLICATIONS_OF_HEAVY_OWNER = 5_000;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private ApplicationCountService applicationCountService;
+
+    @Autowired
+    private ApplicationExportService applicationExportService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private ApplicationNoteRepository noteRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Long ownerId;
+
+    @BeforeEach
+    void setUp() {
+        if (userRepository.findByUsername("plan_owner_1").isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> seed());
+            jdbcTemplate.execute("ANALYZE");
+        }
+        ownerId = userRepository.findByUsername("plan_owner_1").orElseThrow().getId();
+    }
+
+    @Test
+    void testListingsReadPagesInIndexOrder() {
+        // Arrange
+        Pageable newestFirst = PageRequest.of(3, 10, Sort.by(Sort.Direction.DESC, "dateApplied"));
+
+        // Act
+        List<Plan> plans = plans(() -> {
+            applicationService.findByOwner(ownerId, newestFirst);
+            applicationService.findByOwner(ownerId, Set.of(ApplicationField.ID, ApplicationField.STATUS), newestFirst);
+            applicationService.searchApplications(ownerId, ApplicationStatus.INTERVIEW, null, null, newestFirst);
+            String cursor = applicationService.findByOwner(ownerId, null, 10).getNextCursor();
+            applicationService.findByOwner(ownerId, cursor, 10);
+            cursor = applicationService.searchApplications(ownerId, ApplicationStatus.OFFER, null, null, null, 10)
+                    .getNextCursor();
+            applicationService.searchApplications(ownerId, ApplicationStatus.OFFER, null, null, cursor, 10);
+        });
+        List<Plan> exportPlans = plans(() -> {
+            try {
+                applicationExportService.exportApplications(
+                        ownerId, null, null, null, ApplicationFileFormat.CSV, OutputStream.nullOutputStream());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        // Assert
+        assertFalse(plans.isEmpty());
+        plans.forEach(QueryPlanTest::assertIndexed);
+        plans.stream().filter(plan -> plan.sql().contains("order by")).forEach(QueryPlanTest::assertPresorted);
+        assertUses(plans, "idx_applications_owner_date_id");
+        assertUses(plans, "idx_applications_owner_status_date_id");
+        plans.forEach(QueryPlanTest::assertNoOptionalFilter);
+        // Export chunks: the last ones may sort the few remaining rows
+        exportPlans.forEach(QueryPlanTest::assertIndexed);
+        exportPlans.forEach(QueryPlanTest::assertNoOptionalFilter);
+        assertPresorted(exportPlans.get(0));
+    }
+
+    @Test
+    void testSearchesUseIndexes() {
+        // Arrange
+        Pageable newestFirst = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "dateApplied"));
+
+        // Act
+        List<Plan> plans = plans(() -> {
+            applicationService.searchApplications(ownerId, null, "c0ffee", null, newestFirst);
+            applicationService.searchApplications(ownerId, ApplicationStatus.APPLIED, null, "engineer 4", newestFirst);
+            applicationService.searchApplications(ownerId, null, "c0ffee", null, Set.of(ApplicationField.ID), newestFirst);
+            applicationService.searchApplications(ownerId, null, "c0ffee", null, null, 10);
+            applicationService.searchApplications(ownerId, null, null, "engineer 4", null, 10);
+            applicationService.searchText(ownerId, "kubernetes", PageRequest.of(0, 10));
+        });
+
+        // Assert
+        assertFalse(plans.isEmpty());
+        plans.forEach(QueryPlanTest::assertIndexed);
+        plans.forEach(QueryPlanTest::assertNoOptionalFilter);
+        assertUses(plans, "idx_applications_company_name_trgm");
+        assertUses(plans, "idx_applications_search_vector");
+    }
+
+    @Test
+    void testSingleApplicationStatementsUseIndexes() {
+        // Arrange
+        Long id = applicationService.createApplication(ownerId, ApplicationRequest.builder()
+                .companyName("Plan Co")
+                .jobTitle("Engineer")
+                .dateApplied(LocalDate.of(2026, 1, 1))
+                .build()).getId();
+
+        // Act
+        List<Plan> plans = plans(() -> {
+            applicationService.findDetail(id, ownerId);
+            applicationService.updateApplication(id, ownerId, ApplicationRequest.builder()
+                    .companyName("Plan Co")
+                    .jobTitle("Senior Engineer")
+                    .dateApplied(LocalDate.of(2026, 1, 2))
+                    .build());
+            applicationService.updateApplicationStatus(id, ApplicationStatusUpdateRequest.builder()
+                    .newStatus(ApplicationStatus.PHONE_SCREEN)
+                    .build(), ownerId);
+            noteRepository.findWithCreatorByApplicationId(id);
+            applicationCountService.countByOwnerAndStatus(ownerId, ApplicationStatus.PHONE_SCREEN);
+            applicationRepository.countByOwnerIdGroupByStatus(ownerId);
+            applicationService.deleteApplication(id, ownerId);
+        });
+
+        // Assert
+        assertFalse(plans.isEmpty());
+        plans.forEach(QueryPlanTest::assertIndexed);
+    }
+
+    /** The owner under test holds about 5% of the applications */
+    private void seed() {
+        jdbcTemplate.update("INSERT INTO users (username, email, password, role, enabled, created_at, updated_at) "
+                + "SELECT 'plan_owner_' || o, 'plan_owner_' || o || '@example.com', '{noop}unused', "
+                + "'CANDIDATE', true, now(), now() FROM generate_series(1, ?) o", OWNERS);
+        jdbcTemplate.update("INSERT INTO applications "
+                + "(owner_id, company_name, job_title, date_applied, status, created_at, updated_at) "
+                + "SELECT u.id, 'Company ' || md5(u.id || '-' || i), 'Engineer ' || (i % 100), "
+                + "DATE '2020-01-01' + (i * 7 % 2000), "
+                + "(ARRAY['APPLIED', 'PHONE_SCREEN', 'INTERVIEW', 'OFFER', 'ACCEPTED', 'REJECTED'])[1 + i % 6], "
+                + "now(), now() "
+                + "FROM users u, generate_series(1, CASE u.username WHEN 'plan_owner_1' THEN ? ELSE ? END) i "
+                + "WHERE u.username LIKE 'plan\\_owner\\_%'",
+                APPLICATIONS_OF_HEAVY_OWNER, APPLICATIONS_PER_OWNER);
+        jdbcTemplate.update("INSERT INTO application_notes (application_id, created_by, content, created_at, updated_at) "
+                + "SELECT a.id, a.owner_id, 'Team runs ' || (ARRAY['Kubernetes', 'Postgres', 'Kafka'])[1 + a.id % 3], "
+                + "now(), now() FROM applications a JOIN users u ON u.id = a.owner_id "
+                + "WHERE u.username LIKE 'plan\\_owner\\_%' AND a.date_applied < DATE '2020-07-01'");
+        jdbcTemplate.update("INSERT INTO application_status_history "
+                + "(application_id, old_status, new_status, created_by, created_at) "
+                + "SELECT a.id, 'APPLIED', a.status, a.owner_id, now() "
+                + "FROM applications a JOIN users u ON u.id = a.owner_id "
+                + "WHERE u.username LIKE 'plan\\_owner\\_%' AND a.status <> 'APPLIED'");
+        jdbcTemplate.update("INSERT INTO application_counts (owner_id, status, total) "
+                + "SELECT a.owner_id, a.status, COUNT(*) FROM applications a JOIN users u ON u.id = a.owner_id "
+                + "WHERE u.username LIKE 'plan\\_owner\\_%' GROUP BY a.owner_id, a.status");
+    }
+
+    private List<Plan> plans(Runnable action) {
+        List<Plan> plans = new ArrayList<>();
+        for (RecordedStatement statement : QueryPlanRecorder.record(action)) {
+            if (statement.sql().startsWith("select nextval")) {
+                continue;
+            }
+            try {
+                JsonNode document = MAPPER.readTree(QueryPlanRecorder.explain(dataSource, statement));
+                plans.add(new Plan(statement.sql(), document.get(0).get("Plan")));
+            } catch (SQLException | IOException ex) {
+                throw new IllegalStateException("Cannot explain " + statement.sql(), ex);
+            }
+        }
+        return plans;
+    }
+
+    private static void assertIndexed(Plan plan) {
+        assertFalse(plan.hasNode("Seq Scan"), () -> "Sequential scan in " + plan);
+    }
+
+    /**
+     * "(? is null or ...)" filters are planned with their parameter values
+     * here, but a server-prepared generic plan cannot use an index for them.
+     */
+    private static void assertNoOptionalFilter(Plan plan) {
+        assertFalse(plan.sql().contains(" is null or "), () -> "Optional filter in " + plan.sql());
+    }
+
+    private static void assertPresorted(Plan plan) {
+        assertFalse(plan.hasNode("Sort") || plan.hasNode("Incremental Sort"), () -> "Sort in " + plan);
+    }
+
+    private static void assertUses(List<Plan> plans, String index) {
+        assertTrue(plans.stream().anyMatch(plan -> plan.usesIndex(index)),
+                () -> index + " not used by any of\n" + describe(plans));
+    }
+
+    private static String describe(List<Plan> plans) {
+        return String.join("\n", plans.stream().map(Plan::toString).toList());
+    }
+
+    private record Plan(String sql, JsonNode root) {
+
+        boolean hasNode(String nodeType) {
+            return nodes().stream().anyMatch(node -> nodeType.equals(node.path("Node Type").asText()));
+        }
+
+        boolean usesIndex(String index) {
+            return nodes().stream().anyMatch(node -> index.equals(node.path("Index Name").asText()));
+        }
+
+        List<JsonNode> nodes() {
+            List<JsonNode> nodes = new ArrayList<>();
+            collect(root, nodes);
+            return nodes;
+        }
+
+        private static void collect(JsonNode node, List<JsonNode> nodes) {
+            nodes.add(node);
+            node.path("Plans").forEach(child -> collect(child, nodes));
+        }
+
+        @Override
+        public String toString() {
+            return sql + "\n" + root.toPrettyString();
+        }
+    }
+}
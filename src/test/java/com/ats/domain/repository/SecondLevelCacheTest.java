@@ -0,0 +1,210 @@
+package com.ats.domain.repository;
+
+import com.ats.TestContainersConfiguration;
+import com.ats.api.dto.request.ApplicationRequest;
+import com.ats.api.dto.request.ApplicationStatusUpdateRequest;
+import com.ats.api.dto.response.ApplicationDetailResponse;
+import com.ats.domain.entity.Application;
+import com.ats.domain.entity.ApplicationStatus;
+import com.ats.domain.entity.User;
+import com.ats.domain.entity.UserRole;
+import com.ats.exception.ResourceNotFoundException;
+import com.ats.security.TokenRevocationService;
+import com.ats.service.ApplicationService;
+import com.ats.support.QueryPlanRecorder;
+import com.ats.support.QueryPlanRecorder.RecordedStatement;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration test of the Hibernate second-level cache: repeated reads of
+ * users and applications are served from it, application details take one
+ * statement on a hit and two on a miss, owner-scoped native writes
+ * are never hidden by a cached copy, and a user update leaves the other
+ * cached users in place.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "app.security.password-hashing.strength=4"
+})
+@Import({TestContainersConfiguration.class, QueryPlanRecorder.class})
+@Testcontainers(disabledWithoutDocker = true)
+public class SecondLevelCacheTest {
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+    private Long ownerId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        ownerId = user("cache_owner").getId();
+    }
+
+    @Test
+    void testRepeatedDetailReadTakesApplicationFromCache() {
+        // Arrange
+        Long id = createApplication("Cached");
+        applicationService.findDetail(id, ownerId);
+        statistics.clear();
+
+        // Act
+        List<RecordedStatement> statements = QueryPlanRecorder.record(() -> applicationService.findDetail(id, ownerId));
+
+        // Assert - only the history and notes are queried, together
+        assertEquals(1, statistics.getDomainDataRegionStatistics(Application.CACHE_REGION).getHitCount());
+        assertEquals(1, statements.size());
+    }
+
+    @Test
+    void testDetailReadOnCacheMissTakesTwoStatements() {
+        // Arrange
+        Long id = createApplication("Uncached");
+        entityManagerFactory.getCache().evict(Application.class, id);
+        statistics.clear();
+
+        // Act
+        List<RecordedStatement> statements = QueryPlanRecorder.record(() -> applicationService.findDetail(id, ownerId));
+
+        // Assert - the application, then its history and notes
+        assertEquals(1, statistics.getDomainDataRegionStatistics(Application.CACHE_REGION).getMissCount());
+        assertEquals(2, statements.size());
+    }
+
+    @Test
+    void testLoginLookupByUsernameTakesUserFromCache() {
+        // Arrange
+        userRepository.findByUsernameOrEmail("cache_owner");
+        statistics.clear();
+
+        // Act
+        User user = userRepository.findByUsernameOrEmail("cache_owner").orElseThrow();
+
+        // Assert
+        assertEquals(ownerId, user.getId());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testOwnerScopedWritesAreVisibleToNextRead() {
+        // Arrange
+        Long id = createApplication("Before");
+        applicationService.findDetail(id, ownerId);
+
+        // Act & Assert - each read follows a cached one
+        applicationService.updateApplication(id, ownerId, ApplicationRequest.builder()
+                .companyName("After")
+                .jobTitle("Engineer")
+                .dateApplied(LocalDate.of(2026, 1, 1))
+                .build());
+        assertEquals("After", applicationService.findDetail(id, ownerId).getCompanyName());
+
+        applicationService.updateApplicationStatus(id,
+                new ApplicationStatusUpdateRequest(ApplicationStatus.PHONE_SCREEN, null), ownerId);
+        ApplicationDetailResponse detail = applicationService.findDetail(id, ownerId);
+        assertEquals(ApplicationStatus.PHONE_SCREEN, detail.getStatus());
+        assertEquals(1, detail.getStatusHistory().size());
+
+        applicationService.deleteApplication(id, ownerId);
+        assertThrows(ResourceNotFoundException.class, () -> applicationService.findDetail(id, ownerId));
+    }
+
+    @Test
+    void testOwnerScopedUpdateReturnsRowOverManagedCopy() {
+        // Arrange
+        Long id = createApplication("Managed");
+
+        // Act - the application is already managed when the update runs
+        Application updated = transactionTemplate.execute(status -> {
+            applicationRepository.findById(id).orElseThrow();
+            applicationRepository.lockCachedApplication(id);
+            return applicationRepository.updateByIdAndOwnerId(id, ownerId, "Returned", "Engineer",
+                    LocalDate.of(2026, 1, 1), null, null, LocalDateTime.now()).orElseThrow();
+        });
+
+        // Assert
+        assertEquals("Returned", updated.getCompanyName());
+        assertEquals("Returned", applicationService.findDetail(id, ownerId).getCompanyName());
+    }
+
+    @Test
+    void testUserUpdateReplacesOnlyThatUsersCacheEntry() {
+        // Arrange
+        user("cache_revoked");
+        userRepository.findByUsernameOrEmail("cache_owner");
+        userRepository.findByUsernameOrEmail("cache_revoked");
+        statistics.clear();
+
+        // Act
+        tokenRevocationService.revokeAll("cache_revoked");
+
+        // Assert - besides the UPDATE, only the changed user is reloaded
+        userRepository.findByUsernameOrEmail("cache_owner");
+        User revoked = userRepository.findByUsernameOrEmail("cache_revoked").orElseThrow();
+        assertNotNull(revoked.getTokensRevokedAt());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testRegionsArePublishedAsCacheMetrics() {
+        // Act & Assert
+        for (String region : new String[] {User.CACHE_REGION, User.NATURAL_ID_CACHE_REGION, Application.CACHE_REGION}) {
+            assertNotNull(meterRegistry.find("cache.gets").tag("cache", region).functionCounter(), region);
+            assertNotNull(meterRegistry.find("cache.size").tag("cache", region).gauge(), region);
+        }
+    }
+
+    private User user(String username) {
+        return userRepository.findByUsername(username)
+                .orElseGet(() -> userRepository.save(User.builder()
+                        .username(username)
+                        .email(username + "@example.com")
+                        .password("{noop}unused")
+                        .role(UserRole.CANDIDATE)
+                        .enabled(true)
+                        .build()));
+    }
+
+    private Long createApplication(String companyName) {
+        return applicationService.createApplication(ownerId, ApplicationRequest.builder()
+                .companyName(companyName)
+                .jobTitle("Engineer")
+                .dateApplied(LocalDate.of(2026, 1, 1))
+                .build()).getId();
+    }
+}
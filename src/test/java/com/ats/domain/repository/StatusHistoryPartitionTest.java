@@ -0,0 +1,176 @@
+package com.ats.domain.repository;
+
+import com.ats.TestContainersConfiguration;
+import com.ats.api.dto.request.ApplicationRequest;
+import com.ats.domain.entity.Application;
+import com.ats.domain.entity.User;
+import com.ats.domain.entity.UserRole;
+import com.ats.service.ApplicationService;
+import com.ats.service.StatusHistoryPartitionService;
+import com.ats.support.QueryPlanRecorder;
+import com.ats.support.QueryPlanRecorder.RecordedStatement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration test of the monthly partitions of application_status_history:
+ * creation ahead of time, retirement past the retention horizon with the
+ * rollup into application_status_summaries, and pruning of history lookups
+ * to the months the application existed.
+ * Each test uses months of its own, long past, so that nothing else writes to
+ * them.
+ */
+@SpringBootTest(properties = {
+        "app.security.password-hashing.strength=4",
+        "app.status-history.premake-months=3",
+        "app.status-history.retention-months=24"
+})
+@Import({TestContainersConfiguration.class, QueryPlanRecorder.class})
+@Testcontainers(disabledWithoutDocker = true)
+public class StatusHistoryPartitionTest {
+
+    @Autowired
+    private StatusHistoryPartitionService partitionService;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private ApplicationStatusHistoryRepository historyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Long ownerId;
+
+    @BeforeEach
+    void setUp() {
+        ownerId = userRepository.findByUsername("partition_owner")
+                .orElseGet(() -> userRepository.save(User.builder()
+                        .username("partition_owner")
+                        .email("partition_owner@example.com")
+                        .password("{noop}unused")
+                        .role(UserRole.CANDIDATE)
+                        .enabled(true)
+                        .build()))
+                .getId();
+    }
+
+    @Test
+    void testPartitionsAreCreatedAhead() {
+        // Act
+        int created = partitionService.createPartitions(YearMonth.of(2005, 1));
+        int createdAgain = partitionService.createPartitions(YearMonth.of(2005, 1));
+
+        // Assert
+        assertEquals(4, created);
+        assertEquals(0, createdAgain);
+        assertTrue(attachedPartitions().containsAll(List.of(
+                "application_status_history_2005_01", "application_status_history_2005_04")));
+        assertFalse(attachedPartitions().contains("application_status_history_2005_05"));
+    }
+
+    @Test
+    void testExpiredPartitionIsRolledUpAndDetached() {
+        // Arrange
+        partitionService.createPartitions(YearMonth.of(2010, 6));
+        Long id = createApplication();
+        insertHistory(id, "APPLIED", "PHONE_SCREEN", LocalDateTime.of(2010, 6, 3, 10, 0));
+        insertHistory(id, "PHONE_SCREEN", "INTERVIEW", LocalDateTime.of(2010, 6, 20, 10, 0));
+        insertHistory(id, "INTERVIEW", "OFFER", LocalDateTime.of(2010, 7, 2, 10, 0));
+
+        // Act - the horizon is 2010-07
+        int retired = partitionService.retirePartitions(YearMonth.of(2012, 7));
+
+        // Assert
+        assertTrue(retired >= 1);
+        assertFalse(attachedPartitions().contains("application_status_history_2010_06"));
+        assertTrue(attachedPartitions().contains("application_status_history_2010_07"));
+        Map<String, Object> summary = jdbcTemplate.queryForMap(
+                "SELECT * FROM application_status_summaries WHERE application_id = ?", id);
+        assertEquals(LocalDate.of(2010, 6, 1), ((java.sql.Date) summary.get("period_start")).toLocalDate());
+        assertEquals(2, summary.get("changes"));
+        assertEquals("INTERVIEW", summary.get("last_status"));
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM application_status_history_2010_06 WHERE application_id = ?", Integer.class, id));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM application_status_history WHERE application_id = ?", Integer.class, id));
+
+        // The archive no longer follows its application
+        applicationService.deleteApplication(id, ownerId);
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM application_status_history_2010_06 WHERE application_id = ?", Integer.class, id));
+        jdbcTemplate.execute("DROP TABLE application_status_history_2010_06");
+    }
+
+    @Test
+    void testHistoryLookupReadsOnlyPartitionsOfApplicationLifetime() throws SQLException {
+        // Arrange
+        partitionService.createPartitions(YearMonth.of(2008, 1));
+        Application application = applicationRepository.findById(createApplication()).orElseThrow();
+
+        // Act
+        List<RecordedStatement> statements = QueryPlanRecorder.record(() -> {
+            historyRepository.findWithCreatorByApplication(application);
+            applicationRepository.findActivity(application);
+        });
+
+        // Assert
+        assertEquals(2, statements.size());
+        YearMonth created = YearMonth.from(application.getCreatedAt());
+        for (RecordedStatement statement : statements) {
+            String plan = QueryPlanRecorder.explain(dataSource, statement);
+            assertFalse(plan.contains("application_status_history_2008_"), plan);
+            assertTrue(plan.contains(partitionName(created)), plan);
+            assertFalse(plan.contains(partitionName(created.plusMonths(2))), plan);
+        }
+    }
+
+    private List<String> attachedPartitions() {
+        return jdbcTemplate.queryForList("SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                + "WHERE i.inhparent = 'application_status_history'::regclass", String.class);
+    }
+
+    private static String partitionName(YearMonth month) {
+        return "application_status_history_%d_%02d".formatted(month.getYear(), month.getMonthValue());
+    }
+
+    private Long createApplication() {
+        return applicationService.createApplication(ownerId, ApplicationRequest.builder()
+                .companyName("Partition Co")
+                .jobTitle("Engineer")
+                .dateApplied(LocalDate.of(2010, 6, 1))
+                .build()).getId();
+    }
+
+    private void insertHistory(Long applicationId, String oldStatus, String newStatus, LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO application_status_history "
+                        + "(application_id, old_status, new_status, created_by, created_at) VALUES (?, ?, ?, ?, ?)",
+                applicationId, oldStatus, newStatus, ownerId, Timestamp.valueOf(createdAt));
+    }
+}
@@ -0,0 +1,116 @@
+package com.ats.domain.repository;
+
+import com.ats.TestContainersConfiguration;
+import com.ats.domain.entity.User;
+import com.ats.domain.entity.UserRole;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Benchmark of company name substring search over a generated table, with and
+ * without idx_applications_company_name_trgm. Seeding 10M rows takes several
+ * minutes, so it only runs with -Dbenchmarks=true; -Dbenchmark.rows=N changes
+ * the table size.
+ */
+@Slf4j
+@SpringBootTest(properties = "app.security.password-hashing.strength=4")
+@Import(TestContainersConfiguration.class)
+@Testcontainers(disabledWithoutDocker = true)
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+public class TrigramSearchBenchmarkTest {
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 10_000_000);
+
+    /** Company names are "Company <md5>", so a hex substring matches few rows */
+    private static final String SEARCH = "c0ffee";
+
+    /** The statement the search sends for a company name filter */
+    private static final String SEARCH_SQL = "SELECT id, company_name, job_title FROM applications "
+            + "WHERE owner_id = ? AND lower(company_name) LIKE ? ESCAPE '\\' "
+            + "ORDER BY date_applied DESC LIMIT 20";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationCountRepository countRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long ownerId;
+
+    @BeforeEach
+    void setUp() {
+        ownerId = userRepository.findByUsername("trigram_owner")
+                .orElseGet(() -> userRepository.save(User.builder()
+                        .username("trigram_owner")
+                        .email("trigram_owner@example.com")
+                        .password("{noop}unused")
+                        .role(UserRole.CANDIDATE)
+                        .enabled(true)
+                        .build()))
+                .getId();
+        Long existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM applications WHERE owner_id = ?", Long.class, ownerId);
+        if (existing >= ROWS) {
+            return;
+        }
+
+        long missing = ROWS - existing;
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("INSERT INTO applications "
+                            + "(owner_id, company_name, job_title, date_applied, status, created_at, updated_at) "
+                            + "SELECT ?, 'Company ' || md5(i::text), 'Engineer ' || (i % 1000), "
+                            + "DATE '2020-01-01' + (i % 2000)::int, 'APPLIED', now(), now() "
+                            + "FROM generate_series(?, ?) i",
+                    ownerId, existing + 1, (long) ROWS);
+            countRepository.increment(ownerId, "APPLIED", missing);
+        });
+        jdbcTemplate.execute("ANALYZE applications");
+    }
+
+    @Test
+    void testTrigramIndexServesSubstringSearch() {
+        // Act
+        List<String> indexed = explain();
+        List<String> unindexed = transactionTemplate.execute(status -> {
+            // DDL is transactional; the index is back after the rollback
+            status.setRollbackOnly();
+            jdbcTemplate.execute("DROP INDEX idx_applications_company_name_trgm");
+            return explain();
+        });
+
+        // Assert
+        log.info("{} rows, search '{}' with trigram index:\n{}", ROWS, SEARCH, String.join("\n", indexed));
+        log.info("{} rows, search '{}' without trigram index:\n{}", ROWS, SEARCH, String.join("\n", unindexed));
+        assertTrue(String.join("\n", indexed).contains("idx_applications_company_name_trgm"));
+        assertFalse(String.join("\n", unindexed).contains("idx_applications_company_name_trgm"));
+        assertTrue(executionMillis(indexed) < executionMillis(unindexed),
+                executionMillis(indexed) + " ms indexed, " + executionMillis(unindexed) + " ms unindexed");
+    }
+
+    private List<String> explain() {
+        return jdbcTemplate.queryForList("EXPLAIN (ANALYZE, BUFFERS) " + SEARCH_SQL, String.class,
+                ownerId, ApplicationSpecifications.containsPattern(SEARCH));
+    }
+
+    private static double executionMillis(List<String> plan) {
+        String line = plan.stream().filter(row -> row.startsWith("Execution Time:")).findFirst().orElseThrow();
+        return Double.parseDouble(line.replaceAll("[^0-9.]", ""));
+    }
+}
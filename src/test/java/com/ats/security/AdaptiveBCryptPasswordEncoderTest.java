@@ -0,0 +1,53 @@
+package com.ats.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Unit tests for AdaptiveBCryptPasswordEncoder */
+public class AdaptiveBCryptPasswordEncoderTest {
+
+    @Test
+    void testClosestStrengthPicksNearestToTarget() {
+        // Arrange
+        Map<Integer, Duration> samples = Map.of(
+                10, Duration.ofMillis(45),
+                11, Duration.ofMillis(90),
+                12, Duration.ofMillis(180));
+
+        // Act
+        int strength = AdaptiveBCryptPasswordEncoder.closestStrength(samples, Duration.ofMillis(80));
+
+        // Assert
+        assertEquals(11, strength);
+    }
+
+    @Test
+    void testUpgradeEncodingWhenWorkFactorDiffersInEitherDirection() {
+        // Arrange
+        AdaptiveBCryptPasswordEncoder encoder = new AdaptiveBCryptPasswordEncoder(5);
+        String weaker = BCrypt.hashpw("password", BCrypt.gensalt(4));
+        String stronger = BCrypt.hashpw("password", BCrypt.gensalt(6));
+        String current = encoder.encode("password");
+
+        // Act & Assert
+        assertTrue(encoder.upgradeEncoding(weaker));
+        assertTrue(encoder.upgradeEncoding(stronger));
+        assertFalse(encoder.upgradeEncoding(current));
+        assertTrue(encoder.matches("password", stronger));
+    }
+
+    @Test
+    void testCalibrateStaysWithinBounds() {
+        // Act
+        AdaptiveBCryptPasswordEncoder encoder =
+                AdaptiveBCryptPasswordEncoder.calibrate(Duration.ofMillis(1), 4, 6);
+
+        // Assert
+        assertTrue(encoder.getStrength() >= 4 && encoder.getStrength() <= 6);
+    }
+}
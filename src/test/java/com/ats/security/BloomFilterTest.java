@@ -0,0 +1,57 @@
+package com.ats.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Unit tests for BloomFilter */
+public class BloomFilterTest {
+
+    @Test
+    void testNoFalseNegatives() {
+        // Arrange
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+        String[] keys = new String[1_000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = UUID.randomUUID().toString();
+            filter.put(keys[i]);
+        }
+
+        // Act & Assert
+        for (String key : keys) {
+            assertTrue(filter.mightContain(key));
+        }
+    }
+
+    @Test
+    void testFalsePositiveRateStaysNearTarget() {
+        // Arrange
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(UUID.randomUUID().toString());
+        }
+
+        // Act
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        // Assert - 1% target, generous bound to keep the test stable
+        assertTrue(falsePositives < 3_000, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void testSizingFollowsExpectedInsertions() {
+        // Act
+        BloomFilter filter = new BloomFilter(100_000, 0.01);
+
+        // Assert - about 9.6 bits and 7 hashes per key for 1%
+        assertTrue(filter.bitCount() >= 958_000);
+        assertEquals(7, filter.hashCount());
+    }
+}
@@ -0,0 +1,108 @@
+package com.ats.security;
+
+import com.ats.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Unit tests for BulkheadPasswordEncoder */
+public class BulkheadPasswordEncoderTest {
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+
+    private SimpleMeterRegistry meterRegistry;
+    private BulkheadPasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        encoder = new BulkheadPasswordEncoder(new BlockingEncoder(), 1, 1, Duration.ofSeconds(5), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.destroy();
+    }
+
+    @Test
+    void testDelegatesToWrappedEncoder() {
+        // Arrange
+        release.countDown();
+
+        // Act & Assert
+        assertEquals("hashed:secret", encoder.encode("secret"));
+        assertTrue(encoder.matches("secret", "hashed:secret"));
+        assertFalse(encoder.matches("other", "hashed:secret"));
+        assertEquals(3, meterRegistry.get("password.hashing").timers().stream()
+                .mapToLong(timer -> timer.count())
+                .sum());
+    }
+
+    @Test
+    void testRejectsWhenSaturated() throws Exception {
+        // Arrange - one hash running, one queued
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+        waitForQueuedTask();
+
+        // Act & Assert - the next request fails fast
+        assertThrows(ServiceOverloadedException.class, () -> encoder.encode("third"));
+        assertEquals(1.0, meterRegistry.get("password.hashing.rejected").counter().count());
+
+        release.countDown();
+        assertEquals("hashed:first", running.get(5, TimeUnit.SECONDS));
+        assertEquals("hashed:second", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testEncodeAllKeepsOrderWithoutFillingQueue() {
+        // Arrange
+        release.countDown();
+
+        // Act - more passwords than threads + queue capacity
+        List<String> hashes = encoder.encodeAll(List.of("a", "b", "c", "d", "e"));
+
+        // Assert
+        assertEquals(List.of("hashed:a", "hashed:b", "hashed:c", "hashed:d", "hashed:e"), hashes);
+        assertEquals(0.0, meterRegistry.get("password.hashing.rejected").counter().count());
+    }
+
+    private void waitForQueuedTask() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("executor.queued").tag("name", "passwordHashing").gauge().value() < 1) {
+            assertTrue(System.nanoTime() < deadline, "task was never queued");
+            Thread.sleep(10);
+        }
+    }
+
+    /** Encoder that blocks until released, standing in for a slow hash */
+    private class BlockingEncoder implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.equals("hashed:" + rawPassword);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.ats.security;
+
+import com.ats.domain.entity.UserRole;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Unit tests for JwtTokenProvider */
+public class JwtTokenProviderTest {
+    private static final String SECRET =
+            "test-secret-key-that-is-long-enough-for-hmac-sha512-signatures-0123456789";
+
+    private JwtTokenProvider tokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = createProvider(SECRET, 60_000L);
+    }
+
+    @Test
+    void testGeneratedTokenIsValid() {
+        // Arrange
+        String token = tokenProvider.generateTokenFromUsername("testuser");
+
+        // Act
+        Optional<Claims> claims = tokenProvider.getVerifiedClaims(token);
+
+        // Assert
+        assertTrue(claims.isPresent());
+        assertEquals("testuser", claims.get().getSubject());
+        assertTrue(tokenProvider.validateToken(token));
+        assertEquals("testuser", tokenProvider.getUsernameFromToken(token));
+        assertNotNull(claims.get().getId());
+    }
+
+    @Test
+    void testVerifiedClaimsAreReused() {
+        // Arrange
+        String token = tokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken("testuser", null));
+
+        // Act
+        Claims first = tokenProvider.getVerifiedClaims(token).orElseThrow();
+        Claims second = tokenProvider.getVerifiedClaims(token).orElseThrow();
+
+        // Assert - second lookup is served from the verified-claims cache
+        assertSame(first, second);
+    }
+
+    @Test
+    void testPrincipalIsRebuiltFromClaims() {
+        // Arrange
+        AuthenticatedUser principal = new AuthenticatedUser(42L, "testuser", UserRole.RECRUITER, true);
+        String token = tokenProvider.generateToken(principal);
+
+        // Act
+        Claims claims = tokenProvider.getVerifiedClaims(token).orElseThrow();
+
+        // Assert
+        assertEquals(Optional.of(principal), tokenProvider.toPrincipal(claims));
+    }
+
+    @Test
+    void testTokenWithoutPrincipalClaimsHasNoPrincipal() {
+        // Arrange
+        String token = tokenProvider.generateTokenFromUsername("testuser");
+
+        // Act
+        Claims claims = tokenProvider.getVerifiedClaims(token).orElseThrow();
+
+        // Assert
+        assertTrue(tokenProvider.toPrincipal(claims).isEmpty());
+    }
+
+    @Test
+    void testTamperedTokenIsRejected() {
+        // Arrange
+        String token = tokenProvider.generateTokenFromUsername("testuser");
+        String tampered = token.substring(0, token.length() - 2) + "xx";
+
+        // Act & Assert
+        assertTrue(tokenProvider.getVerifiedClaims(tampered).isEmpty());
+        assertFalse(tokenProvider.validateToken(tampered));
+    }
+
+    @Test
+    void testTokenSignedWithOtherKeyIsRejected() {
+        // Arrange
+        JwtTokenProvider otherProvider = createProvider(SECRET.replace('t', 'x'), 60_000L);
+        String token = otherProvider.generateTokenFromUsername("testuser");
+
+        // Act & Assert
+        assertTrue(tokenProvider.getVerifiedClaims(token).isEmpty());
+    }
+
+    @Test
+    void testExpiredTokenIsRejected() {
+        // Arrange
+        JwtTokenProvider expiringProvider = createProvider(SECRET, -1_000L);
+        String token = expiringProvider.generateTokenFromUsername("testuser");
+
+        // Act & Assert
+        assertTrue(expiringProvider.getVerifiedClaims(token).isEmpty());
+    }
+
+    private static JwtTokenProvider createProvider(String secret, long expirationMs) {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "jwtSecret", secret);
+        ReflectionTestUtils.setField(provider, "jwtExpirationMs", expirationMs);
+        ReflectionTestUtils.setField(provider, "verifiedCacheMaxSize", 100L);
+        provider.init();
+        return provider;
+    }
+}
@@ -0,0 +1,113 @@
+package com.ats.security;
+
+import com.ats.domain.entity.User;
+import com.ats.domain.entity.UserRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/** Unit tests for PrincipalCache */
+@ExtendWith(MockitoExtension.class)
+public class PrincipalCacheTest {
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PrincipalCache principalCache;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        principalCache = new PrincipalCache(userDetailsService, meterRegistry);
+        ReflectionTestUtils.setField(principalCache, "ttl", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(principalCache, "maxSize", 100L);
+        principalCache.init();
+
+        testUser = User.builder()
+                .id(1L)
+                .username("testuser")
+                .email("test@example.com")
+                .password("encoded_password")
+                .role(UserRole.CANDIDATE)
+                .enabled(true)
+                .build();
+    }
+
+    @Test
+    void testRepeatedLookupsHitTheCache() {
+        // Arrange
+        when(userDetailsService.loadUserByUsername("testuser")).thenReturn(testUser);
+
+        // Act
+        AuthenticatedUser first = principalCache.loadUserByUsername("testuser");
+        AuthenticatedUser second = principalCache.loadUserByUsername("testuser");
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(1L, first.id());
+        verify(userDetailsService, times(1)).loadUserByUsername("testuser");
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "principals").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    void testInvalidateForcesReload() {
+        // Arrange
+        when(userDetailsService.loadUserByUsername("testuser")).thenReturn(testUser);
+        principalCache.loadUserByUsername("testuser");
+
+        // Act
+        principalCache.invalidate("testuser");
+        principalCache.loadUserByUsername("testuser");
+
+        // Assert
+        verify(userDetailsService, times(2)).loadUserByUsername("testuser");
+    }
+
+    @Test
+    void testInvalidateAfterCommitWaitsForCommit() {
+        // Arrange
+        when(userDetailsService.loadUserByUsername("testuser")).thenReturn(testUser);
+        principalCache.loadUserByUsername("testuser");
+
+        // Act & Assert
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            principalCache.invalidateAfterCommit("testuser");
+            principalCache.loadUserByUsername("testuser");
+            verify(userDetailsService, times(1)).loadUserByUsername("testuser");
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        principalCache.loadUserByUsername("testuser");
+        verify(userDetailsService, times(2)).loadUserByUsername("testuser");
+    }
+
+    @Test
+    void testUnknownUserIsNotCached() {
+        // Arrange
+        when(userDetailsService.loadUserByUsername("unknown"))
+                .thenThrow(new UsernameNotFoundException("User not found: unknown"));
+
+        // Act & Assert
+        assertThrows(UsernameNotFoundException.class, () -> principalCache.loadUserByUsername("unknown"));
+        assertThrows(UsernameNotFoundException.class, () -> principalCache.loadUserByUsername("unknown"));
+        verify(userDetailsService, times(2)).loadUserByUsername("unknown");
+    }
+}
@@ -0,0 +1,109 @@
+package com.ats.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Unit tests for RateLimiter */
+public class RateLimiterTest {
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimiter = new RateLimiter(meterRegistry);
+        ReflectionTestUtils.setField(rateLimiter, "enabled", true);
+        ReflectionTestUtils.setField(rateLimiter, "idleTimeout", Duration.ZERO);
+        ReflectionTestUtils.setField(rateLimiter, "authCapacity", 3);
+        ReflectionTestUtils.setField(rateLimiter, "authRefillPerSecond", 0.1);
+        ReflectionTestUtils.setField(rateLimiter, "searchCapacity", 5);
+        ReflectionTestUtils.setField(rateLimiter, "searchRefillPerSecond", 1.0);
+        ReflectionTestUtils.setField(rateLimiter, "defaultCapacity", 100);
+        ReflectionTestUtils.setField(rateLimiter, "defaultRefillPerSecond", 50.0);
+        rateLimiter.init();
+    }
+
+    @Test
+    void testBurstUpToCapacityThenRejects() {
+        // Act
+        RateLimiter.Decision first = rateLimiter.tryAcquire(RateLimiter.Group.AUTH, "10.0.0.1");
+        rateLimiter.tryAcquire(RateLimiter.Group.AUTH, "10.0.0.1");
+        RateLimiter.Decision third = rateLimiter.tryAcquire(RateLimiter.Group.AUTH, "10.0.0.1");
+        RateLimiter.Decision fourth = rateLimiter.tryAcquire(RateLimiter.Group.AUTH, "10.0.0.1");
+
+        // Assert
+        assertTrue(first.allowed());
+        assertEquals(2, first.remaining());
+        assertTrue(third.allowed());
+        assertEquals(0, third.remaining());
+        assertFalse(fourth.allowed());
+        assertTrue(fourth.retryAfterNanos() > Duration.ofSeconds(9).toNanos());
+        assertEquals(1.0, meterRegistry.get("rate.limit.rejected").tag("group", "auth").counter().count());
+    }
+
+    @Test
+    void testKeysAndGroupsAreIndependent() {
+        // Arrange - exhaust one client's auth bucket
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire(RateLimiter.Group.AUTH, "10.0.0.1");
+        }
+
+        // Act & Assert
+        assertFalse(rateLimiter.tryAcquire(RateLimiter.Group.AUTH, "10.0.0.1").allowed());
+        assertTrue(rateLimiter.tryAcquire(RateLimiter.Group.AUTH, "10.0.0.2").allowed());
+        assertTrue(rateLimiter.tryAcquire(RateLimiter.Group.SEARCH, "10.0.0.1").allowed());
+    }
+
+    @Test
+    void testConcurrentAcquiresNeverExceedCapacity() {
+        // Arrange
+        AtomicInteger allowed = new AtomicInteger();
+        List<CompletableFuture<Void>> workers = new ArrayList<>();
+
+        // Act - 8 threads race for a bucket of 5 tokens refilling at 1/s
+        for (int t = 0; t < 8; t++) {
+            workers.add(CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < 10; i++) {
+                    if (rateLimiter.tryAcquire(RateLimiter.Group.SEARCH, 42L).allowed()) {
+                        allowed.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        workers.forEach(CompletableFuture::join);
+
+        // Assert - the burst, plus at most one refill if the race spans a second
+        assertTrue(allowed.get() >= 5 && allowed.get() <= 6, "allowed: " + allowed.get());
+    }
+
+    @Test
+    void testSweepEvictsIdleBuckets() {
+        // Arrange
+        rateLimiter.tryAcquire(RateLimiter.Group.DEFAULT, 1L);
+
+        // Act - one token used at 50/s is refilled after 20ms
+        sleep(50);
+        rateLimiter.sweep();
+
+        // Assert
+        assertEquals(0.0, meterRegistry.get("rate.limit.buckets").tag("group", "default").gauge().value());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
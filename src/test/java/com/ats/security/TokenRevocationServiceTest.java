@@ -0,0 +1,189 @@
+package com.ats.security;
+
+import com.ats.domain.entity.RevokedToken;
+import com.ats.domain.entity.User;
+import com.ats.domain.repository.RevokedTokenRepository;
+import com.ats.domain.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/** Unit tests for TokenRevocationService */
+@ExtendWith(MockitoExtension.class)
+public class TokenRevocationServiceTest {
+    private static final long EXPIRATION_MS = 60_000L;
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private TokenRevocationService revocationService;
+
+    @BeforeEach
+    void setUp() {
+        revocationService = new TokenRevocationService(revokedTokenRepository, userRepository, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(revocationService, "jwtExpirationMs", EXPIRATION_MS);
+        ReflectionTestUtils.setField(revocationService, "expectedRevocations", 100);
+        ReflectionTestUtils.setField(revocationService, "falsePositiveRate", 0.01);
+        ReflectionTestUtils.setField(revocationService, "syncOverlap", Duration.ofMinutes(1));
+        revocationService.init();
+    }
+
+    @Test
+    void testRevokedTokenIsRejected() {
+        // Arrange
+        Claims revoked = claims("testuser", new Date());
+        Claims other = claims("testuser", new Date());
+        when(revokedTokenRepository.save(any(RevokedToken.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        revocationService.revoke(revoked);
+
+        // Assert
+        assertTrue(revocationService.isRevoked(revoked));
+        assertFalse(revocationService.isRevoked(other));
+    }
+
+    @Test
+    void testRevokeWithoutTokenIdFails() {
+        // Arrange
+        Claims claims = Jwts.claims().subject("testuser").build();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> revocationService.revoke(claims));
+        verify(revokedTokenRepository, never()).save(any());
+    }
+
+    @Test
+    void testRevokeAllRejectsTokensIssuedBefore() {
+        // Arrange
+        Claims earlier = claims("testuser", new Date(System.currentTimeMillis() - 5_000));
+        Claims otherUser = claims("otheruser", new Date(System.currentTimeMillis() - 5_000));
+        User user = User.builder().username("testuser").build();
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
+
+        // Act
+        revocationService.revokeAll("testuser");
+
+        // Assert
+        assertTrue(revocationService.isRevoked(earlier));
+        assertFalse(revocationService.isRevoked(otherUser));
+        assertFalse(revocationService.isRevoked(claims("testuser", new Date(System.currentTimeMillis() + 2_000))));
+        assertNotNull(user.getTokensRevokedAt());
+    }
+
+    @Test
+    void testRevokeAllAcceptsTokenIssuedLaterInSameSecond() {
+        // Arrange - revoked 300ms into a second
+        LocalDateTime second = LocalDateTime.now().withNano(0);
+        long secondStart = second.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        stubCutoff("testuser", second.plusNanos(300_000_000));
+
+        // Act
+        revocationService.sync();
+
+        // Assert
+        assertTrue(revocationService.isRevoked(claims("testuser", new Date(secondStart + 100))));
+        assertTrue(revocationService.isRevoked(claims("testuser", new Date(secondStart + 300))));
+        assertFalse(revocationService.isRevoked(claims("testuser", new Date(secondStart + 500))));
+    }
+
+    @Test
+    void testTokenWithoutMillisecondIssueTimeIsRevokedWithinSameSecond() {
+        // Arrange - a token issued before the millisecond claim existed
+        LocalDateTime second = LocalDateTime.now().withNano(0);
+        long secondStart = second.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        stubCutoff("testuser", second.plusNanos(300_000_000));
+        Claims legacy = Jwts.claims()
+                .id(UUID.randomUUID().toString())
+                .subject("testuser")
+                .issuedAt(new Date(secondStart + 500))
+                .build();
+
+        // Act
+        revocationService.sync();
+
+        // Assert
+        assertTrue(revocationService.isRevoked(legacy));
+    }
+
+    @Test
+    void testSyncPicksUpRevocationsFromOtherInstances() {
+        // Arrange
+        Claims claims = claims("testuser", new Date());
+        when(revokedTokenRepository.findByRevokedAtAfter(any())).thenReturn(List.of(revokedToken(claims.getId(), Duration.ofMinutes(1))));
+
+        // Act
+        revocationService.sync();
+
+        // Assert
+        assertTrue(revocationService.isRevoked(claims));
+    }
+
+    @Test
+    void testPruneDropsExpiredEntries() throws Exception {
+        // Arrange - one long-lived and one short-lived revocation
+        Claims live = claims("testuser", new Date());
+        Claims expiring = claims("testuser", new Date());
+        when(revokedTokenRepository.findByRevokedAtAfter(any())).thenReturn(List.of(
+                revokedToken(live.getId(), Duration.ofMinutes(1)),
+                revokedToken(expiring.getId(), Duration.ofMillis(200))));
+        revocationService.sync();
+        assertTrue(revocationService.isRevoked(expiring));
+        Thread.sleep(300);
+
+        // Act
+        revocationService.prune();
+
+        // Assert
+        assertTrue(revocationService.isRevoked(live));
+        assertFalse(revocationService.isRevoked(expiring));
+        verify(revokedTokenRepository).deleteExpired(any());
+    }
+
+    private static Claims claims(String username, Date issuedAt) {
+        return Jwts.claims()
+                .id(UUID.randomUUID().toString())
+                .subject(username)
+                .issuedAt(issuedAt)
+                .add(JwtTokenProvider.CLAIM_ISSUED_AT_MS, issuedAt.getTime())
+                .expiration(new Date(issuedAt.getTime() + EXPIRATION_MS))
+                .build();
+    }
+
+    private void stubCutoff(String username, LocalDateTime tokensRevokedAt) {
+        UserRepository.TokenCutoff cutoff = mock(UserRepository.TokenCutoff.class);
+        when(cutoff.getUsername()).thenReturn(username);
+        when(cutoff.getTokensRevokedAt()).thenReturn(tokensRevokedAt);
+        when(userRepository.findTokenCutoffsSince(any())).thenReturn(List.of(cutoff));
+    }
+
+    private static RevokedToken revokedToken(String tokenId, Duration expiresIn) {
+        return RevokedToken.builder()
+                .tokenId(tokenId)
+                .username("testuser")
+                .expiresAt(LocalDateTime.now().plus(expiresIn))
+                .revokedAt(LocalDateTime.now())
+                .build();
+    }
+}
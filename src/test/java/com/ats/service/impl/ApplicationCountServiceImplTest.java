@@ -0,0 +1,111 @@
+package com.ats.service.impl;
+
+import com.ats.domain.entity.ApplicationCount;
+import com.ats.domain.entity.ApplicationStatus;
+import com.ats.domain.repository.ApplicationCountRepository;
+import com.ats.domain.repository.ApplicationRepository;
+import com.ats.domain.repository.ApplicationRepository.StatusTotal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/** Unit tests for ApplicationCountServiceImpl */
+@ExtendWith(MockitoExtension.class)
+public class ApplicationCountServiceImplTest {
+    @Mock
+    private ApplicationCountRepository countRepository;
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ApplicationCountServiceImpl countService;
+
+    @BeforeEach
+    void setUp() {
+        countService = new ApplicationCountServiceImpl(
+                countRepository,
+                applicationRepository,
+                new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    void testTransitionLocksCountersInEnumOrder() {
+        // Act
+        countService.transition(1L, ApplicationStatus.OFFER, ApplicationStatus.REJECTED);
+        countService.transition(2L, ApplicationStatus.REJECTED, ApplicationStatus.APPLIED);
+
+        // Assert
+        InOrder inOrder = inOrder(countRepository);
+        inOrder.verify(countRepository).increment(1L, "OFFER", -1);
+        inOrder.verify(countRepository).increment(1L, "REJECTED", 1);
+        inOrder.verify(countRepository).increment(2L, "APPLIED", 1);
+        inOrder.verify(countRepository).increment(2L, "REJECTED", -1);
+    }
+
+    @Test
+    void testReconcileRepairsDriftedCounters() {
+        // Arrange
+        when(countRepository.findOwnersWithDrift()).thenReturn(List.of(1L));
+        when(applicationRepository.countByOwnerIdGroupByStatus(1L)).thenReturn(List.of(
+                statusTotal(ApplicationStatus.APPLIED, 5),
+                statusTotal(ApplicationStatus.OFFER, 1)));
+        when(countRepository.findByOwnerId(1L)).thenReturn(List.of(
+                new ApplicationCount(1L, ApplicationStatus.APPLIED, 7),
+                new ApplicationCount(1L, ApplicationStatus.OFFER, 1),
+                new ApplicationCount(1L, ApplicationStatus.REJECTED, 2)));
+
+        // Act
+        int repaired = countService.reconcile();
+
+        // Assert
+        assertEquals(1, repaired);
+        // Every counter of the owner is locked before counting
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            verify(countRepository).increment(1L, status.name(), 0);
+        }
+        verify(countRepository).setTotal(1L, "APPLIED", 5);
+        verify(countRepository).setTotal(1L, "REJECTED", 0);
+        verify(countRepository, never()).setTotal(eq(1L), eq("OFFER"), anyLong());
+    }
+
+    @Test
+    void testReconcileWithoutDriftDoesNothing() {
+        // Arrange
+        when(countRepository.findOwnersWithDrift()).thenReturn(List.of());
+
+        // Act
+        int repaired = countService.reconcile();
+
+        // Assert
+        assertEquals(0, repaired);
+        verifyNoInteractions(applicationRepository, transactionManager);
+    }
+
+    private static StatusTotal statusTotal(ApplicationStatus status, long total) {
+        return new StatusTotal() {
+            @Override
+            public ApplicationStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public long getTotal() {
+                return total;
+            }
+        };
+    }
+}
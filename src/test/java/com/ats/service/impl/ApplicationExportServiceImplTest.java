@@ -0,0 +1,140 @@
+package com.ats.service.impl;
+
+import com.ats.domain.entity.Application;
+import com.ats.domain.entity.ApplicationStatus;
+import com.ats.domain.repository.ApplicationRepository;
+import com.ats.service.ApplicationFileFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/** Unit tests for ApplicationExportServiceImpl */
+@ExtendWith(MockitoExtension.class)
+public class ApplicationExportServiceImplTest {
+    private static final Limit CHUNK = Limit.of(ApplicationExportServiceImpl.CHUNK_SIZE);
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ApplicationExportServiceImpl exportService;
+
+    private Application first;
+    private Application second;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new ApplicationExportServiceImpl(
+                applicationRepository,
+                new ObjectMapper()
+                        .registerModule(new JavaTimeModule())
+                        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS),
+                transactionManager);
+        exportService.init();
+        first = application(2L, "Tech Corp", "Engineer, Backend");
+        second = application(1L, "Acme", "Developer");
+    }
+
+    @Test
+    void testExportCsvWritesHeaderAndRows() throws Exception {
+        // Arrange
+        when(applicationRepository.findPage(any(), eq(CHUNK))).thenReturn(List.of(first, second));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        long count = exportService.exportApplications(
+                1L, ApplicationStatus.APPLIED, "co", "engineer", ApplicationFileFormat.CSV, output);
+
+        // Assert
+        assertEquals(2, count);
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        assertEquals("id,companyName,jobTitle,dateApplied,status,jobUrl,notes,createdAt,updatedAt", lines[0]);
+        assertTrue(lines[1].startsWith("2,\"Tech Corp\",\"Engineer, Backend\",2026-01-01,APPLIED,"));
+        verify(transactionManager).getTransaction(argThat(TransactionDefinition::isReadOnly));
+        verify(applicationRepository, times(1)).findPage(any(), any());
+    }
+
+    @Test
+    void testExportNdjsonWritesOneObjectPerLine() throws Exception {
+        // Arrange
+        when(applicationRepository.findPage(any(), eq(CHUNK))).thenReturn(List.of(first, second));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        long count = exportService.exportApplications(1L, null, null, null, ApplicationFileFormat.NDJSON, output);
+
+        // Assert
+        assertEquals(2, count);
+        String body = output.toString(StandardCharsets.UTF_8);
+        assertTrue(body.startsWith("{\"id\":2,\"companyName\":\"Tech Corp\""));
+        assertTrue(body.endsWith("}\n"));
+        assertEquals(2, body.lines().count());
+    }
+
+    @Test
+    void testExportReadsChunksInSeparateTransactions() throws Exception {
+        // Arrange - a full first chunk ending with id 1000
+        List<Application> fullChunk = LongStream.rangeClosed(1, ApplicationExportServiceImpl.CHUNK_SIZE)
+                .mapToObj(i -> application(1500 - i, "Company " + i, "Engineer"))
+                .toList();
+        when(applicationRepository.findPage(any(), eq(CHUNK))).thenReturn(fullChunk, List.of(second));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        long count = exportService.exportApplications(1L, null, null, null, ApplicationFileFormat.NDJSON, output);
+
+        // Assert
+        assertEquals(ApplicationExportServiceImpl.CHUNK_SIZE + 1, count);
+        assertEquals(count, output.toString(StandardCharsets.UTF_8).lines().count());
+        verify(transactionManager, times(2)).getTransaction(any());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void testExportEmptyResultWritesNothing() throws Exception {
+        // Arrange
+        when(applicationRepository.findPage(any(), eq(CHUNK))).thenReturn(List.of());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        long count = exportService.exportApplications(1L, null, null, null, ApplicationFileFormat.NDJSON, output);
+
+        // Assert
+        assertEquals(0, count);
+        assertEquals(0, output.size());
+    }
+
+    private static Application application(Long id, String companyName, String jobTitle) {
+        return Application.builder()
+                .id(id)
+                .companyName(companyName)
+                .jobTitle(jobTitle)
+                .dateApplied(LocalDate.of(2026, 1, 1))
+                .status(ApplicationStatus.APPLIED)
+                .createdAt(LocalDateTime.of(2026, 1, 1, 9, 0))
+                .updatedAt(LocalDateTime.of(2026, 1, 1, 9, 0))
+                .build();
+    }
+}
@@ -0,0 +1,192 @@
+package com.ats.service.impl;
+
+import com.ats.api.dto.request.ApplicationRequest;
+import com.ats.api.dto.response.ApplicationImportResult;
+import com.ats.api.dto.response.ApplicationImportResult.ImportStatus;
+import com.ats.domain.entity.ApplicationStatus;
+import com.ats.service.ApplicationCountService;
+import com.ats.service.ApplicationFileFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/** Unit tests for ApplicationImportServiceImpl */
+@ExtendWith(MockitoExtension.class)
+public class ApplicationImportServiceImplTest {
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationCountService applicationCountService;
+
+    private ApplicationImportServiceImpl importService;
+
+    @BeforeEach
+    void setUp() {
+        importService = new ApplicationImportServiceImpl(
+                new ObjectMapper().registerModule(new JavaTimeModule()),
+                jdbcTemplate,
+                new TransactionTemplate(transactionManager),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                applicationCountService);
+    }
+
+    @Test
+    void testImportCsvReportsPerRowResults() throws Exception {
+        // Arrange
+        String csv = """
+                companyName,jobTitle,dateApplied,jobUrl,notes
+                Tech Corp,Engineer,2026-01-01,,"Referral, via ""Jane""\"
+                ,Engineer,2026-01-02,,
+                Acme,Developer,not-a-date,,
+                Globex,Architect,2026-01-03,https://globex.example/jobs/1,
+                """;
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(1))).thenReturn(List.of(101L));
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn(2L);
+        List<ApplicationImportResult> results = new ArrayList<>();
+
+        // Act
+        ApplicationImportResult completed = importService.importApplications(
+                7L, input(csv), ApplicationFileFormat.CSV, results::add);
+
+        // Assert
+        assertEquals(2L, completed.getImported());
+        assertEquals(2L, completed.getFailed());
+        results.sort(Comparator.comparing(ApplicationImportResult::getStatus)
+                .thenComparing(ApplicationImportResult::getRow, Comparator.nullsLast(Comparator.naturalOrder())));
+        assertEquals(ImportStatus.IMPORTED, results.get(0).getStatus());
+        assertEquals(1L, results.get(0).getRow());
+        assertEquals(101L, results.get(0).getId());
+        assertEquals(4L, results.get(1).getRow());
+        assertEquals(102L, results.get(1).getId());
+        assertEquals(2L, results.get(2).getRow());
+        assertEquals("companyName: Company name is required", results.get(2).getError());
+        assertEquals(3L, results.get(3).getRow());
+        assertEquals("dateApplied: Invalid value", results.get(3).getError());
+        assertEquals(ImportStatus.COMPLETED, results.get(4).getStatus());
+    }
+
+    @Test
+    void testImportNdjsonLoadsInChunks() throws Exception {
+        // Arrange
+        int count = ApplicationImportServiceImpl.CHUNK_SIZE + 1;
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            ndjson.append("{\"companyName\":\"Company ").append(i)
+                    .append("\",\"jobTitle\":\"Engineer\",\"dateApplied\":\"2026-01-01\"}\n");
+        }
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), anyInt())).thenAnswer(invocation -> {
+            int blocks = invocation.getArgument(2);
+            List<Long> lows = new ArrayList<>();
+            for (int i = 0; i < blocks; i++) {
+                lows.add(1L + (long) i * ApplicationImportServiceImpl.ID_BLOCK_SIZE);
+            }
+            return lows;
+        });
+        List<ApplicationImportResult> results = new ArrayList<>();
+
+        // Act
+        ApplicationImportResult completed = importService.importApplications(
+                7L, input(ndjson.toString()), ApplicationFileFormat.NDJSON, results::add);
+
+        // Assert
+        assertEquals(count, completed.getImported());
+        assertEquals(0L, completed.getFailed());
+        verify(jdbcTemplate, times(2)).execute(any(ConnectionCallback.class));
+        verify(jdbcTemplate).queryForList(anyString(), eq(Long.class), eq(20));
+        verify(jdbcTemplate).queryForList(anyString(), eq(Long.class), eq(1));
+        verify(applicationCountService).increment(7L, ApplicationStatus.APPLIED, 1000);
+        verify(applicationCountService).increment(7L, ApplicationStatus.APPLIED, 1);
+        assertEquals(1000L, results.get(999).getId());
+        assertEquals(ImportStatus.COMPLETED, results.get(count).getStatus());
+    }
+
+    @Test
+    void testImportStopsAtMalformedInput() throws Exception {
+        // Arrange
+        String ndjson = """
+                {"companyName":"Tech Corp","jobTitle":"Engineer","dateApplied":"2026-01-01"}
+                {"companyName":"Acme",
+                """;
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(1))).thenReturn(List.of(1L));
+        List<ApplicationImportResult> results = new ArrayList<>();
+
+        // Act
+        ApplicationImportResult completed = importService.importApplications(
+                7L, input(ndjson), ApplicationFileFormat.NDJSON, results::add);
+
+        // Assert
+        assertEquals(1L, completed.getImported());
+        assertEquals(1L, completed.getFailed());
+        assertEquals("Malformed input, remaining rows were not read", results.get(0).getError());
+        assertEquals(2L, results.get(0).getRow());
+    }
+
+    @Test
+    void testImportFailsWholeChunkRejectedByDatabase() throws Exception {
+        // Arrange
+        String ndjson = """
+                {"companyName":"Tech Corp","jobTitle":"Engineer","dateApplied":"2026-01-01"}
+                {"companyName":"Acme","jobTitle":"Developer","dateApplied":"2026-01-02"}
+                """;
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(1))).thenReturn(List.of(1L));
+        when(jdbcTemplate.execute(any(ConnectionCallback.class)))
+                .thenThrow(new DataIntegrityViolationException("fk_applications_owner"));
+        List<ApplicationImportResult> results = new ArrayList<>();
+
+        // Act
+        ApplicationImportResult completed = importService.importApplications(
+                7L, input(ndjson), ApplicationFileFormat.NDJSON, results::add);
+
+        // Assert
+        assertEquals(0L, completed.getImported());
+        assertEquals(2L, completed.getFailed());
+        assertEquals("Row could not be stored", results.get(0).getError());
+    }
+
+    @Test
+    void testAppendRowWritesCopyCsv() {
+        // Arrange
+        ApplicationRequest request = ApplicationRequest.builder()
+                .companyName("Tech \"Corp\"")
+                .jobTitle("Engineer, Backend")
+                .dateApplied(LocalDate.of(2026, 1, 1))
+                .build();
+        StringBuilder line = new StringBuilder();
+
+        // Act
+        ApplicationImportServiceImpl.appendRow(line, 5L, 7L, request, "2026-01-02T10:00");
+
+        // Assert
+        assertEquals("5,7,\"Tech \"\"Corp\"\"\",\"Engineer, Backend\",2026-01-01,APPLIED,,,"
+                + "2026-01-02T10:00,2026-01-02T10:00\n", line.toString());
+    }
+
+    private static ByteArrayInputStream input(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -2,13 +2,24 @@ package com.ats.service.impl;
 
 import com.ats.api.dto.request.ApplicationRequest;
 import com.ats.api.dto.request.ApplicationStatusUpdateRequest;
+import com.ats.api.dto.response.ApplicationDetailResponse;
 import com.ats.api.dto.response.ApplicationResponse;
+import com.ats.api.dto.response.CursorPage;
 import com.ats.domain.entity.Application;
+import com.ats.domain.entity.ApplicationNote;
 import com.ats.domain.entity.ApplicationStatus;
+import com.ats.domain.entity.ApplicationStatusHistory;
 import com.ats.domain.entity.User;
 import com.ats.domain.entity.UserRole;
 import com.ats.domain.repository.ApplicationRepository;
-import com.ats.domain.repository.ApplicationStatusHistoryRepository;
+import com.ats.domain.repository.ApplicationRepositoryCustom.Activity;
+import com.ats.domain.repository.ApplicationRepositoryCustom.StatusTransition;
+import com.ats.domain.repository.UserRepository;
+import com.ats.exception.ResourceNotFoundException;
+import com.ats.service.ApplicationCountService;
+import com.ats.service.ApplicationCursor;
+import com.ats.service.ApplicationField;
+import jakarta.persistence.Tuple;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,11 +30,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -36,7 +51,10 @@ public class ApplicationServiceImplTest {
     private ApplicationRepository applicationRepository;
 
     @Mock
-    private ApplicationStatusHistoryRepository statusHistoryRepository;
+    private UserRepository userRepository;
+
+    @Mock
+    private ApplicationCountService applicationCountService;
 
     @InjectMocks
     private ApplicationServiceImpl applicationService;
@@ -83,10 +101,11 @@ public class ApplicationServiceImplTest {
     @Test
     void testCreateApplicationSuccess() {
         // Arrange
+        when(userRepository.getReferenceById(1L)).thenReturn(testUser);
         when(applicationRepository.save(any(Application.class))).thenReturn(testApplication);
 
         // Act
-        ApplicationResponse response = applicationService.createApplication(testUser, applicationRequest);
+        ApplicationResponse response = applicationService.createApplication(1L, applicationRequest);
 
         // Assert
         assertNotNull(response);
@@ -94,31 +113,46 @@ public class ApplicationServiceImplTest {
         assertEquals("Software Engineer", response.getJobTitle());
         assertEquals(ApplicationStatus.APPLIED, response.getStatus());
         verify(applicationRepository, times(1)).save(any(Application.class));
+        verify(applicationCountService).increment(1L, ApplicationStatus.APPLIED, 1);
     }
 
     @Test
-    void testFindByIdSuccess() {
+    void testFindDetailLoadsHistoryAndNotesTogether() {
         // Arrange
-        when(applicationRepository.findById(1L)).thenReturn(Optional.of(testApplication));
+        ApplicationNote note = ApplicationNote.builder()
+                .id(5L)
+                .content("Recruiter called")
+                .createdBy(testUser)
+                .build();
+        ApplicationStatusHistory change = ApplicationStatusHistory.builder()
+                .id(7L)
+                .oldStatus(ApplicationStatus.APPLIED)
+                .newStatus(ApplicationStatus.INTERVIEW)
+                .createdBy(testUser)
+                .build();
+        when(applicationRepository.findCurrentById(1L)).thenReturn(Optional.of(testApplication));
+        when(applicationRepository.findActivity(testApplication))
+                .thenReturn(new Activity(List.of(change), List.of(note)));
 
         // Act
-        var result = applicationService.findById(1L);
+        ApplicationDetailResponse result = applicationService.findDetail(1L, 1L);
 
         // Assert
-        assertTrue(result.isPresent());
-        assertEquals("Google", result.get().getCompanyName());
+        assertEquals("Google", result.getCompanyName());
+        assertEquals(1, result.getStatusHistory().size());
+        assertEquals(ApplicationStatus.INTERVIEW, result.getStatusHistory().get(0).getNewStatus());
+        assertEquals(1, result.getApplicationNotes().size());
+        assertEquals("John Doe", result.getApplicationNotes().get(0).getCreatedByName());
     }
 
     @Test
-    void testFindByIdNotFound() {
-        // Arrange
-        when(applicationRepository.findById(999L)).thenReturn(Optional.empty());
-
-        // Act
-        var result = applicationService.findById(999L);
+    void testFindDetailOfOtherOwnerNotFound() {
+        // Arrange - a foreign id looks exactly like a missing one
+        when(applicationRepository.findCurrentById(1L)).thenReturn(Optional.of(testApplication));
 
-        // Assert
-        assertTrue(result.isEmpty());
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> applicationService.findDetail(1L, 2L));
+        verify(applicationRepository, never()).findActivity(any());
     }
 
     @Test
@@ -141,48 +175,55 @@ public class ApplicationServiceImplTest {
                 .applicationNotes(new ArrayList<>())
                 .build();
 
-        when(applicationRepository.findById(1L)).thenReturn(Optional.of(testApplication));
-        when(applicationRepository.save(any(Application.class))).thenReturn(updatedApplication);
+        when(applicationRepository.updateByIdAndOwnerId(
+                eq(1L), eq(1L), eq("Microsoft"), eq("Senior Developer"), any(), isNull(), isNull(), any()))
+                .thenReturn(Optional.of(updatedApplication));
 
         // Act
-        ApplicationResponse response = applicationService.updateApplication(1L, updateRequest);
+        ApplicationResponse response = applicationService.updateApplication(1L, 1L, updateRequest);
 
         // Assert
         assertNotNull(response);
         assertEquals("Microsoft", response.getCompanyName());
         assertEquals("Senior Developer", response.getJobTitle());
+        verify(applicationRepository, never()).findById(any());
+        verify(applicationRepository).lockCachedApplication(1L);
     }
 
     @Test
     void testUpdateApplicationNotFound() {
-        // Arrange
-        when(applicationRepository.findById(999L)).thenReturn(Optional.empty());
+        // Arrange - also the result for another owner's application
+        when(applicationRepository.updateByIdAndOwnerId(eq(999L), eq(1L), any(), any(), any(), any(), any(), any()))
+                .thenReturn(Optional.empty());
 
         // Act & Assert
-        assertThrows(IllegalArgumentException.class,
-                () -> applicationService.updateApplication(999L, applicationRequest));
+        assertThrows(ResourceNotFoundException.class,
+                () -> applicationService.updateApplication(999L, 1L, applicationRequest));
     }
 
     @Test
     void testDeleteApplicationSuccess() {
         // Arrange
-        when(applicationRepository.findById(1L)).thenReturn(Optional.of(testApplication));
+        when(applicationRepository.deleteByIdAndOwnerId(1L, 1L)).thenReturn(Optional.of("INTERVIEW"));
 
         // Act
-        applicationService.deleteApplication(1L);
+        applicationService.deleteApplication(1L, 1L);
 
         // Assert
-        verify(applicationRepository, times(1)).delete(testApplication);
+        verify(applicationRepository, never()).findById(any());
+        verify(applicationRepository).lockCachedApplication(1L);
+        verify(applicationCountService).increment(1L, ApplicationStatus.INTERVIEW, -1);
     }
 
     @Test
     void testDeleteApplicationNotFound() {
         // Arrange
-        when(applicationRepository.findById(999L)).thenReturn(Optional.empty());
+        when(applicationRepository.deleteByIdAndOwnerId(999L, 1L)).thenReturn(Optional.empty());
 
         // Act & Assert
-        assertThrows(IllegalArgumentException.class,
-                () -> applicationService.deleteApplication(999L));
+        assertThrows(ResourceNotFoundException.class,
+                () -> applicationService.deleteApplication(999L, 1L));
+        verifyNoInteractions(applicationCountService);
     }
 
     @Test
@@ -192,80 +233,82 @@ public class ApplicationServiceImplTest {
                 .newStatus(ApplicationStatus.PHONE_SCREEN)
                 .reason("Passed initial review")
                 .build();
+        testApplication.setStatus(ApplicationStatus.PHONE_SCREEN);
 
-        when(applicationRepository.findById(1L)).thenReturn(Optional.of(testApplication));
-        when(applicationRepository.save(any(Application.class))).thenReturn(testApplication);
-        when(statusHistoryRepository.save(any())).thenReturn(null);
+        when(applicationRepository.transitionStatus(eq(1L), eq(1L), eq(Set.of(ApplicationStatus.APPLIED)),
+                eq(ApplicationStatus.PHONE_SCREEN), eq("Passed initial review"), any()))
+                .thenReturn(Optional.of(new StatusTransition(ApplicationStatus.APPLIED, testApplication)));
 
         // Act
-        ApplicationResponse response = applicationService.updateApplicationStatus(1L, statusRequest, testUser);
+        ApplicationResponse response = applicationService.updateApplicationStatus(1L, statusRequest, 1L);
 
         // Assert
-        assertNotNull(response);
-        verify(statusHistoryRepository, times(1)).save(any());
+        assertEquals(ApplicationStatus.PHONE_SCREEN, response.getStatus());
+        verify(applicationCountService).transition(1L, ApplicationStatus.APPLIED, ApplicationStatus.PHONE_SCREEN);
+        verify(applicationRepository, never()).findById(any());
     }
 
     @Test
     void testUpdateApplicationStatusInvalidTransition() {
-        // Arrange
-        testApplication.setStatus(ApplicationStatus.REJECTED);
+        // Arrange - the row was REJECTED when the statement ran, so nothing changed
         ApplicationStatusUpdateRequest statusRequest = ApplicationStatusUpdateRequest.builder()
                 .newStatus(ApplicationStatus.PHONE_SCREEN)
                 .build();
 
-        when(applicationRepository.findById(1L)).thenReturn(Optional.of(testApplication));
+        when(applicationRepository.transitionStatus(eq(1L), eq(1L), any(), eq(ApplicationStatus.PHONE_SCREEN), any(), any()))
+                .thenReturn(Optional.of(new StatusTransition(ApplicationStatus.REJECTED, null)));
 
         // Act & Assert
-        assertThrows(IllegalStateException.class,
-                () -> applicationService.updateApplicationStatus(1L, statusRequest, testUser));
+        IllegalStateException ex = assertThrows(IllegalStateException.class,
+                () -> applicationService.updateApplicationStatus(1L, statusRequest, 1L));
+        assertEquals("Cannot transition from REJECTED to PHONE_SCREEN", ex.getMessage());
+        verifyNoInteractions(applicationCountService);
     }
 
     @Test
-    void testValidateOwnershipSuccess() {
+    void testUpdateApplicationStatusOfOtherOwnerNotFound() {
         // Arrange
-        when(applicationRepository.findById(1L)).thenReturn(Optional.of(testApplication));
+        ApplicationStatusUpdateRequest statusRequest = ApplicationStatusUpdateRequest.builder()
+                .newStatus(ApplicationStatus.PHONE_SCREEN)
+                .build();
 
-        // Act & Assert - should not throw
-        assertDoesNotThrow(() -> applicationService.validateOwnership(1L, testUser));
+        when(applicationRepository.transitionStatus(eq(1L), eq(2L), any(), any(), any(), any()))
+                .thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class,
+                () -> applicationService.updateApplicationStatus(1L, statusRequest, 2L));
+        verifyNoInteractions(applicationCountService);
     }
 
     @Test
-    void testValidateOwnershipFail() {
-        // Arrange
-        User otherUser = User.builder()
-                .id(2L)
-                .username("other")
-                .email("other@example.com")
-                .role(UserRole.CANDIDATE)
-                .build();
-
-        when(applicationRepository.findById(1L)).thenReturn(Optional.of(testApplication));
-
+    void testPredecessorsMatchTransitions() {
         // Act & Assert
-        assertThrows(IllegalArgumentException.class,
-                () -> applicationService.validateOwnership(1L, otherUser));
+        assertEquals(Set.of(), ApplicationStatus.APPLIED.predecessors());
+        assertEquals(Set.of(ApplicationStatus.OFFER), ApplicationStatus.ACCEPTED.predecessors());
+        assertEquals(Set.of(ApplicationStatus.APPLIED, ApplicationStatus.PHONE_SCREEN,
+                ApplicationStatus.INTERVIEW, ApplicationStatus.OFFER), ApplicationStatus.REJECTED.predecessors());
     }
 
     // ---- searchApplications tests ----
 
     @Test
     void testSearchByStatusOnly() {
-        // Arrange - null companyName, status only (the bug case)
-        Pageable pageable = PageRequest.of(0, 10);
-        Page<Application> page =
-                new PageImpl<>(List.of(testApplication));
-        when(applicationRepository.searchApplications(testUser, ApplicationStatus.APPLIED, null, pageable))
-                .thenReturn(page);
+        // Arrange - null companyName, status only (the bug case); total from the counters
+        Pageable pageable = PageRequest.of(0, 1);
+        when(applicationRepository.findAllByOwnerIdAndStatus(1L, ApplicationStatus.APPLIED, pageable))
+                .thenReturn(List.of(testApplication));
+        when(applicationCountService.countByOwnerAndStatus(1L, ApplicationStatus.APPLIED)).thenReturn(42L);
 
         // Act
         Page<ApplicationResponse> result =
-                applicationService.searchApplications(testUser, ApplicationStatus.APPLIED, null, pageable);
+                applicationService.searchApplications(1L, ApplicationStatus.APPLIED, null, null, pageable);
 
         // Assert
         assertNotNull(result);
-        assertEquals(1, result.getTotalElements());
+        assertEquals(42, result.getTotalElements());
         assertEquals(ApplicationStatus.APPLIED, result.getContent().getFirst().getStatus());
-        verify(applicationRepository).searchApplications(testUser, ApplicationStatus.APPLIED, null, pageable);
+        verify(applicationRepository, never()).findAll(any(Specification.class), any(Pageable.class));
     }
 
     @Test
@@ -274,12 +317,12 @@ public class ApplicationServiceImplTest {
         Pageable pageable = PageRequest.of(0, 10);
         Page<Application> page =
                 new PageImpl<>(List.of(testApplication));
-        when(applicationRepository.searchApplications(testUser, null, "Google", pageable))
+        when(applicationRepository.findAll(any(Specification.class), eq(pageable)))
                 .thenReturn(page);
 
         // Act
         Page<ApplicationResponse> result =
-                applicationService.searchApplications(testUser, null, "Google", pageable);
+                applicationService.searchApplications(1L, null, "Google", null, pageable);
 
         // Assert
         assertNotNull(result);
@@ -293,12 +336,12 @@ public class ApplicationServiceImplTest {
         Pageable pageable = PageRequest.of(0, 10);
         Page<Application> page =
                 new PageImpl<>(List.of(testApplication));
-        when(applicationRepository.searchApplications(testUser, ApplicationStatus.APPLIED, "Google", pageable))
+        when(applicationRepository.findAll(any(Specification.class), eq(pageable)))
                 .thenReturn(page);
 
         // Act
         Page<ApplicationResponse> result =
-                applicationService.searchApplications(testUser, ApplicationStatus.APPLIED, "Google", pageable);
+                applicationService.searchApplications(1L, ApplicationStatus.APPLIED, "Google", null, pageable);
 
         // Assert
         assertNotNull(result);
@@ -311,17 +354,164 @@ public class ApplicationServiceImplTest {
     void testSearchNoFilters() {
         // Arrange - both null, should return all user's applications
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Application> page =
-                new PageImpl<>(List.of(testApplication));
-        when(applicationRepository.searchApplications(testUser, null, null, pageable))
-                .thenReturn(page);
+        when(applicationRepository.findAllByOwnerId(1L, pageable)).thenReturn(List.of(testApplication));
 
         // Act
         Page<ApplicationResponse> result =
-                applicationService.searchApplications(testUser, null, null, pageable);
+                applicationService.searchApplications(1L, null, null, null, pageable);
 
-        // Assert
+        // Assert - a short first page is its own total, no count needed
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
+        verifyNoInteractions(applicationCountService);
+    }
+
+    @Test
+    void testFindByOwnerTotalFromCounters() {
+        // Arrange
+        Pageable pageable = PageRequest.of(3, 1);
+        when(applicationRepository.findAllByOwnerId(1L, pageable)).thenReturn(List.of(testApplication));
+        when(applicationCountService.countByOwner(1L)).thenReturn(250L);
+
+        // Act
+        Page<ApplicationResponse> result = applicationService.findByOwner(1L, pageable);
+
+        // Assert
+        assertEquals(250, result.getTotalElements());
+        assertEquals(250, result.getTotalPages());
+        verify(applicationRepository, never()).findByOwnerId(any(), any());
+    }
+
+    // ---- cursor pagination tests ----
+
+    @Test
+    void testFindByOwnerCursorFirstPage() {
+        // Arrange - one row more than the page size means a next page exists
+        Application second = Application.builder()
+                .id(2L)
+                .owner(testUser)
+                .companyName("Acme")
+                .jobTitle("Developer")
+                .dateApplied(LocalDate.of(2026, 1, 1))
+                .status(ApplicationStatus.APPLIED)
+                .build();
+        Application third = Application.builder().id(3L).dateApplied(LocalDate.of(2025, 12, 1)).build();
+        when(applicationRepository.findPage(any(), eq(Limit.of(3))))
+                .thenReturn(List.of(testApplication, second, third));
+
+        // Act
+        CursorPage<ApplicationResponse> result = applicationService.findByOwner(1L, null, 2);
+
+        // Assert
+        assertEquals(2, result.getSize());
+        assertEquals(2, result.getContent().size());
+        assertTrue(result.isHasNext());
+        assertEquals(new ApplicationCursor(LocalDate.of(2026, 1, 1), 2L),
+                ApplicationCursor.decode(result.getNextCursor()));
+    }
+
+    @Test
+    void testSearchCursorLastPage() {
+        // Arrange
+        String cursor = new ApplicationCursor(LocalDate.of(2026, 1, 1), 2L).encode();
+        when(applicationRepository.findPage(any(), eq(Limit.of(11)))).thenReturn(List.of(testApplication));
+
+        // Act
+        CursorPage<ApplicationResponse> result =
+                applicationService.searchApplications(1L, ApplicationStatus.APPLIED, "Google", "Engineer", cursor, 10);
+
+        // Assert
+        assertEquals(1, result.getSize());
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void testCursorPaginationRejectsInvalidInput() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> applicationService.findByOwner(1L, "not-a-cursor", 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> applicationService.findByOwner(1L, null, ApplicationServiceImpl.MAX_CURSOR_PAGE_SIZE + 1));
+        verifyNoInteractions(applicationRepository);
+    }
+
+    // ---- sparse fieldset tests ----
+
+    @Test
+    void testFindByOwnerSelectsOnlyRequestedFields() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        Tuple row = mock(Tuple.class);
+        when(row.get("id")).thenReturn(1L);
+        when(row.get("companyName")).thenReturn("Google");
+        when(row.get("status")).thenReturn(ApplicationStatus.APPLIED);
+        when(applicationRepository.findAttributes(any(), eq(List.of("id", "companyName", "status")), eq(pageable)))
+                .thenReturn(List.of(row));
+
+        // Act
+        Page<ApplicationResponse> result = applicationService.findByOwner(
+                1L, ApplicationField.parse("status,companyName,id"), pageable);
+
+        // Assert
+        ApplicationResponse response = result.getContent().get(0);
+        assertEquals(1L, response.getId());
+        assertEquals("Google", response.getCompanyName());
+        assertEquals(ApplicationStatus.APPLIED, response.getStatus());
+        assertNull(response.getJobTitle());
+        assertNull(response.getNotes());
+        assertEquals(1, result.getTotalElements());
+        verify(applicationRepository, never()).findAllByOwnerId(any(), any());
+    }
+
+    @Test
+    void testSearchWithFieldsCountsTextMatches() {
+        // Arrange - a full first page, so the total has to be counted
+        Pageable pageable = PageRequest.of(0, 1);
+        Tuple row = mock(Tuple.class);
+        when(row.get("id")).thenReturn(1L);
+        when(applicationRepository.findAttributes(any(), eq(List.of("id")), eq(pageable)))
+                .thenReturn(List.of(row));
+        when(applicationRepository.count(any(Specification.class))).thenReturn(4L);
+
+        // Act
+        Page<ApplicationResponse> result = applicationService.searchApplications(
+                1L, ApplicationStatus.APPLIED, null, "engineer", Set.of(ApplicationField.ID), pageable);
+
+        // Assert
+        assertEquals(4, result.getTotalElements());
+        verifyNoInteractions(applicationCountService);
+    }
+
+    @Test
+    void testSearchTextIgnoresRequestedSort() {
+        // Arrange - results are ordered by rank in the query itself
+        Pageable pageable = PageRequest.of(1, 5, Sort.by("companyName"));
+        when(applicationRepository.searchText(1L, "kubernetes", PageRequest.of(1, 5)))
+                .thenReturn(new PageImpl<>(List.of(testApplication), PageRequest.of(1, 5), 6));
+
+        // Act
+        Page<ApplicationResponse> result = applicationService.searchText(1L, "  kubernetes ", pageable);
+
+        // Assert
+        assertEquals(6, result.getTotalElements());
+        assertEquals("Google", result.getContent().get(0).getCompanyName());
+    }
+
+    @Test
+    void testSearchTextRejectsBlankQuery() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> applicationService.searchText(1L, " ", PageRequest.of(0, 10)));
+        verifyNoInteractions(applicationRepository);
+    }
+
+    @Test
+    void testParseFieldsRejectsUnknownField() {
+        // Act & Assert
+        assertEquals(Set.of(ApplicationField.JOB_TITLE, ApplicationField.DATE_APPLIED),
+                ApplicationField.parse(" jobTitle, dateApplied "));
+        assertThrows(IllegalArgumentException.class, () -> ApplicationField.parse("id,owner"));
+        assertThrows(IllegalArgumentException.class, () -> ApplicationField.parse(","));
     }
-}
\ No newline at end of file
+}
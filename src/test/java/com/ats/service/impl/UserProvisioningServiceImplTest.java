@@ -0,0 +1,124 @@
+package com.ats.service.impl;
+
+import com.ats.api.dto.request.UserRegistrationRequest;
+import com.ats.api.dto.response.BulkUserRegistrationResponse;
+import com.ats.api.dto.response.BulkUserRegistrationResponse.RowStatus;
+import com.ats.domain.entity.UserRole;
+import com.ats.domain.repository.UserRepository;
+import com.ats.security.BulkheadPasswordEncoder;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/** Unit tests for UserProvisioningServiceImpl */
+@ExtendWith(MockitoExtension.class)
+public class UserProvisioningServiceImplTest {
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private BulkheadPasswordEncoder passwordEncoder;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UserProvisioningServiceImpl provisioningService;
+
+    @BeforeEach
+    void setUp() {
+        provisioningService = new UserProvisioningServiceImpl(
+                userRepository,
+                passwordEncoder,
+                jdbcTemplate,
+                new TransactionTemplate(transactionManager),
+                Validation.buildDefaultValidatorFactory().getValidator());
+    }
+
+    @Test
+    void testRegisterAllReportsPerRowResults() throws Exception {
+        // Arrange
+        List<UserRegistrationRequest> requests = new ArrayList<>(List.of(
+                user("alice", "alice@example.com"),
+                user("bob", "not-an-email"),
+                user("alice", "alice2@example.com"),
+                user("carol", "carol@example.com"),
+                user("dave", "dave@example.com")));
+        when(userRepository.findExistingUsernames(anyList())).thenReturn(List.of());
+        when(userRepository.findExistingEmails(anyList())).thenReturn(List.of("carol@example.com"));
+        when(passwordEncoder.encodeAll(anyList())).thenReturn(List.of("hash-alice", "hash-dave"));
+        insertReturns("alice", 10L);
+
+        // Act
+        BulkUserRegistrationResponse response = provisioningService.registerAll(requests);
+
+        // Assert
+        assertEquals(1, response.getCreated());
+        assertEquals(4, response.getFailed());
+        assertEquals(RowStatus.CREATED, response.getResults().get(0).getStatus());
+        assertEquals(10L, response.getResults().get(0).getId());
+        assertTrue(response.getResults().get(1).getError().startsWith("email:"));
+        assertEquals("Duplicate username in request: alice", response.getResults().get(2).getError());
+        assertEquals("Email already exists: carol@example.com", response.getResults().get(3).getError());
+        assertEquals("Username or email already exists", response.getResults().get(4).getError());
+    }
+
+    @Test
+    void testRegisterAllInsertsInChunks() throws Exception {
+        // Arrange
+        int count = UserProvisioningServiceImpl.CHUNK_SIZE + 1;
+        List<UserRegistrationRequest> requests = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            requests.add(user("user" + i, "user" + i + "@example.com"));
+        }
+        when(passwordEncoder.encodeAll(anyList()))
+                .thenAnswer(invocation -> invocation.<List<?>>getArgument(0).stream().map(raw -> "hash").toList());
+
+        // Act
+        BulkUserRegistrationResponse response = provisioningService.registerAll(requests);
+
+        // Assert
+        assertEquals(count, response.getResults().size());
+        verify(jdbcTemplate, times(2)).query(anyString(), any(PreparedStatementSetter.class), any(RowCallbackHandler.class));
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    private void insertReturns(String username, Long id) throws Exception {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getString("username")).thenReturn(username);
+        when(resultSet.getLong("id")).thenReturn(id);
+        doAnswer(invocation -> {
+            invocation.<RowCallbackHandler>getArgument(2).processRow(resultSet);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(PreparedStatementSetter.class), any(RowCallbackHandler.class));
+    }
+
+    private static UserRegistrationRequest user(String username, String email) {
+        return UserRegistrationRequest.builder()
+                .username(username)
+                .email(email)
+                .password("password123")
+                .firstName("Test")
+                .lastName("User")
+                .role(UserRole.CANDIDATE)
+                .build();
+    }
+}
@@ -5,14 +5,17 @@ import com.ats.api.dto.response.UserResponse;
 import com.ats.domain.entity.User;
 import com.ats.domain.entity.UserRole;
 import com.ats.domain.repository.UserRepository;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.sql.SQLException;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -60,10 +63,8 @@ public class UserServiceImplTest {
     @Test
     void testRegisterSuccess() {
         // Arrange
-        when(userRepository.existsByEmail(anyString())).thenReturn(false);
-        when(userRepository.existsByUsername(anyString())).thenReturn(false);
         when(passwordEncoder.encode(anyString())).thenReturn("encoded_password");
-        when(userRepository.save(any(User.class))).thenReturn(testUser);
+        when(userRepository.saveAndFlush(any(User.class))).thenReturn(testUser);
 
         // Act
         UserResponse response = userService.register(registrationRequest);
@@ -72,28 +73,43 @@ public class UserServiceImplTest {
         assertNotNull(response);
         assertEquals("testuser", response.getUsername());
         assertEquals("test@example.com", response.getEmail());
-        verify(userRepository, times(1)).save(any(User.class));
+        verify(userRepository, times(1)).saveAndFlush(any(User.class));
+        verify(userRepository, never()).existsByEmail(anyString());
+        verify(userRepository, never()).existsByUsername(anyString());
     }
 
     @Test
     void testRegisterEmailAlreadyExists() {
         // Arrange
-        when(userRepository.existsByEmail("test@example.com")).thenReturn(true);
+        when(passwordEncoder.encode(anyString())).thenReturn("encoded_password");
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(uniqueViolation(User.EMAIL_CONSTRAINT));
 
         // Act & Assert
-        assertThrows(IllegalArgumentException.class, () -> userService.register(registrationRequest));
-        verify(userRepository, never()).save(any(User.class));
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> userService.register(registrationRequest));
+        assertEquals("Email already exists: test@example.com", ex.getMessage());
     }
 
     @Test
     void testRegisterUsernameAlreadyExists() {
         // Arrange
-        when(userRepository.existsByEmail(anyString())).thenReturn(false);
-        when(userRepository.existsByUsername("testuser")).thenReturn(true);
+        when(passwordEncoder.encode(anyString())).thenReturn("encoded_password");
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(uniqueViolation(User.USERNAME_CONSTRAINT));
 
         // Act & Assert
-        assertThrows(IllegalArgumentException.class, () -> userService.register(registrationRequest));
-        verify(userRepository, never()).save(any(User.class));
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> userService.register(registrationRequest));
+        assertEquals("Username already exists: testuser", ex.getMessage());
+    }
+
+    @Test
+    void testRegisterOtherIntegrityViolationIsRethrown() {
+        // Arrange
+        when(passwordEncoder.encode(anyString())).thenReturn("encoded_password");
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(uniqueViolation("users_role_check"));
+
+        // Act & Assert
+        assertThrows(DataIntegrityViolationException.class, () -> userService.register(registrationRequest));
     }
 
     @Test
@@ -170,4 +186,9 @@ public class UserServiceImplTest {
         // Assert
         assertTrue(exists);
     }
-}
\ No newline at end of file
+
+    private static DataIntegrityViolationException uniqueViolation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("duplicate key value", new SQLException(), constraintName));
+    }
+}
@@ -0,0 +1,72 @@
+package com.ats.support;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Test configuration counting JDBC statement executions (round trips to the
+ * database) by proxying the application DataSource.
+ * An executeBatch() counts once, however many rows it carries.
+ */
+@TestConfiguration
+public class JdbcRoundTripCounter {
+
+    private static final AtomicLong EXECUTIONS = new AtomicLong();
+
+    public static void reset() {
+        EXECUTIONS.set(0);
+    }
+
+    public static long count() {
+        return EXECUTIONS.get();
+    }
+
+    @Bean
+    public static BeanPostProcessor roundTripCountingDataSource() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource ? proxy(DataSource.class, dataSource) : bean;
+            }
+        };
+    }
+
+    private static <T> T proxy(Class<T> type, T target) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (method.getName().startsWith("execute") && target instanceof Statement) {
+                EXECUTIONS.incrementAndGet();
+            }
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+            if (result instanceof Connection connection) {
+                return proxy(Connection.class, connection);
+            }
+            if (result instanceof CallableStatement statement) {
+                return proxy(CallableStatement.class, statement);
+            }
+            if (result instanceof PreparedStatement statement) {
+                return proxy(PreparedStatement.class, statement);
+            }
+            if (result instanceof Statement statement) {
+                return proxy(Statement.class, statement);
+            }
+            return result;
+        };
+        return type.cast(Proxy.newProxyInstance(JdbcRoundTripCounter.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+}
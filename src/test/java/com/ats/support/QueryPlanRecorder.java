@@ -0,0 +1,127 @@
+package com.ats.support;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test configuration recording the prepared statements the application
+ * executes, with their parameters, by proxying the application DataSource.
+ * Recorded statements can be replayed under EXPLAIN with the same parameters,
+ * so the plan is the one the planner chose for the real values.
+ * Batched statements are not recorded.
+ */
+@TestConfiguration
+public class QueryPlanRecorder {
+
+    private static final ThreadLocal<List<RecordedStatement>> RECORDING = new ThreadLocal<>();
+
+    /** SQL of an executed statement and the setter calls that bound its parameters */
+    public record RecordedStatement(String sql, List<Binding> bindings) {
+    }
+
+    public record Binding(Method setter, Object[] args) {
+    }
+
+    /** @return statements executed by action on the calling thread, in order */
+    public static List<RecordedStatement> record(Runnable action) {
+        List<RecordedStatement> statements = new ArrayList<>();
+        RECORDING.set(statements);
+        try {
+            action.run();
+        } finally {
+            RECORDING.remove();
+        }
+        return statements;
+    }
+
+    /**
+     * Runs EXPLAIN (FORMAT JSON) for the statement without executing it.
+     *
+     * @return the plan document, a JSON array with one object
+     */
+    public static String explain(DataSource dataSource, RecordedStatement statement) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement explain = connection.prepareStatement("EXPLAIN (FORMAT JSON) " + statement.sql())) {
+            for (Binding binding : statement.bindings()) {
+                binding.setter().invoke(explain, binding.args());
+            }
+            try (ResultSet plan = explain.executeQuery()) {
+                plan.next();
+                return plan.getString(1);
+            }
+        } catch (IllegalAccessException | InvocationTargetException ex) {
+            throw new IllegalStateException("Cannot bind parameters of " + statement.sql(), ex);
+        }
+    }
+
+    @Bean
+    public static BeanPostProcessor planRecordingDataSource() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource ? proxyDataSource(dataSource) : bean;
+            }
+        };
+    }
+
+    private static DataSource proxyDataSource(DataSource target) {
+        return proxy(DataSource.class, target, (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            return result instanceof Connection connection ? proxyConnection(connection) : result;
+        });
+    }
+
+    private static Connection proxyConnection(Connection target) {
+        return proxy(Connection.class, target, (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")) {
+                return proxyStatement(statement, (String) args[0]);
+            }
+            return result;
+        });
+    }
+
+    private static PreparedStatement proxyStatement(PreparedStatement target, String sql) {
+        List<Binding> bindings = new ArrayList<>();
+        return proxy(PreparedStatement.class, target, (proxy, method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                bindings.add(new Binding(method, args.clone()));
+            } else if (name.equals("clearParameters")) {
+                bindings.clear();
+            } else if ((name.equals("execute") || name.equals("executeQuery") || name.equals("executeUpdate"))
+                    && (args == null || args.length == 0)) {
+                List<RecordedStatement> statements = RECORDING.get();
+                if (statements != null) {
+                    statements.add(new RecordedStatement(sql, List.copyOf(bindings)));
+                }
+            }
+            return invoke(target, method, args);
+        });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(QueryPlanRecorder.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+}